@@ -0,0 +1,17 @@
+package com.andersonsilva.shared.exception;
+
+/**
+ * O cliente condicionou a operação a uma versão ({@code If-Match}) que não é mais a atual, seja na
+ * leitura ou por uma alteração concorrente detectada ao gravar.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.andersonsilva.shared.feign;
+
+import feign.Capability;
+import feign.micrometer.MicrometerCapability;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas dos clientes Feign: um timer por método do cliente ({@code feign.Feign}), outro por
+ * chamada HTTP ({@code feign.Client}) e contadores por código de resposta e por exceção.
+ * <p>
+ * Substitui a capability baseada em Observation do Spring Cloud OpenFeign
+ * ({@code spring.cloud.openfeign.micrometer.enabled: false}), que não encerra a medição quando
+ * a conexão falha — justamente as falhas que mais interessam.
+ * <p>
+ * Registrada como {@code defaultConfiguration} do {@code @EnableFeignClients} de cada serviço, e
+ * não pela varredura de componentes, que não alcança este pacote.
+ */
+@Configuration
+public class FeignMetricsConfig {
+
+    @Bean
+    public Capability micrometerCapability(MeterRegistry meterRegistry) {
+        return new MicrometerCapability(meterRegistry);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.andersonsilva.shared.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Gera o ID a partir da sequência {@link #name()}, reservando blocos de IDs com o otimizador
+ * pooled do Hibernate. O tamanho do bloco vem de {@value PooledSequenceGenerator#ALLOCATION_SIZE}.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequence {
+
+    String name();
+
+}
@@ -0,0 +1,51 @@
+package com.andersonsilva.shared.persistence;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * {@link SequenceStyleGenerator} com o otimizador pooled e o tamanho do bloco configurável, em vez
+ * do {@code allocationSize} fixo de {@code @SequenceGenerator}.
+ * <p>
+ * O valor da sequência é o maior ID de cada bloco, então o {@code INCREMENT BY} da sequência no
+ * banco precisa ser igual ao tamanho do bloco; o Hibernate confere isso ao iniciar. No Postgres a
+ * migração repetível {@code R__sequence_increments.sql} de cada serviço aplica o mesmo valor,
+ * recebido pelo placeholder {@code id_allocation_size} do Flyway.
+ * <p>
+ * Durante um deploy gradual, aumentar o tamanho é seguro, mas diminuir não: as instâncias antigas
+ * continuam usando blocos maiores e recuam sobre IDs já entregues às novas. A migração recusa a
+ * redução; para reduzir, todas as instâncias precisam ser paradas e reiniciadas juntas.
+ * <p>
+ * Fonte compartilhada por user-service e task-service (diretório {@code shared}, incluído na
+ * compilação de cada um pelo build-helper-maven-plugin).
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE = "app.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequence config) {
+        this.sequenceName = config.name();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE);
+
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM,
+                allocationSize == null ? String.valueOf(DEFAULT_ALLOCATION_SIZE) : allocationSize.toString());
+        parameters.setProperty(OPT_PARAM, "pooled");
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.andersonsilva.shared.web;
+
+/**
+ * Converte a versão das entidades ({@code @Version}) em ETag e lê a versão esperada do cabeçalho
+ * {@code If-Match}.
+ */
+public final class ETags {
+
+    /**
+     * Nunca corresponde a uma versão existente, já que as versões começam em zero.
+     */
+    public static final long NO_MATCH = -1L;
+
+    private ETags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Versão exigida pelo {@code If-Match}, ou {@code null} quando o cabeçalho está ausente ou é {@code *}.
+     * Só é aceita uma única ETag forte; ETags fracas, listas e valores inválidos retornam {@link #NO_MATCH}.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return NO_MATCH;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+
+}
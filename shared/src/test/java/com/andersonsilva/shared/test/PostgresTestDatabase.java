@@ -0,0 +1,128 @@
+package com.andersonsilva.shared.test;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Banco PostgreSQL para os testes que precisam do banco real, como os das migrações do Flyway, que
+ * não rodam no H2 dos demais testes.
+ * <p>
+ * Usa o servidor de {@code TEST_POSTGRES_URL} (com {@code TEST_POSTGRES_USERNAME} e
+ * {@code TEST_POSTGRES_PASSWORD}) quando definido; senão, um contêiner com a imagem do
+ * docker-compose. Sem nenhum dos dois os testes são ignorados (ver {@link #isAvailable()}).
+ * Cada {@link #create()} cria um banco novo e vazio no servidor.
+ * <p>
+ * Compartilhado pelos testes dos dois serviços (diretório {@code shared/src/test/java}).
+ */
+public record PostgresTestDatabase(String url, String username, String password) {
+
+    private static final String IMAGE = "postgres:15";
+
+    private static PostgreSQLContainer<?> container;
+
+    /**
+     * Condição para {@code @EnabledIf}.
+     */
+    public static boolean isAvailable() {
+        return System.getenv("TEST_POSTGRES_URL") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    public static PostgresTestDatabase create() {
+        PostgresTestDatabase server = server();
+        String name = "test_" + UUID.randomUUID().toString().replace("-", "");
+        server.execute("CREATE DATABASE " + name);
+        return server.database(name);
+    }
+
+    /**
+     * Banco {@code name} no servidor, criado se ainda não existir e mantido entre execuções; usado
+     * pelos benchmarks que semeiam muitos dados uma única vez.
+     */
+    public static PostgresTestDatabase named(String name) {
+        PostgresTestDatabase server = server();
+        try (Connection connection = server.connect();
+             var exists = connection.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            exists.setString(1, name);
+            if (!exists.executeQuery().next()) {
+                server.execute("CREATE DATABASE " + name);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao preparar o banco " + name, e);
+        }
+        return server.database(name);
+    }
+
+    private PostgresTestDatabase database(String name) {
+        int query = url.indexOf('?');
+        String base = query < 0 ? url : url.substring(0, query);
+        String params = query < 0 ? "" : url.substring(query);
+        return new PostgresTestDatabase(base.substring(0, base.lastIndexOf('/') + 1) + name + params,
+                username, password);
+    }
+
+    private static synchronized PostgresTestDatabase server() {
+        String url = System.getenv("TEST_POSTGRES_URL");
+        if (url != null) {
+            return new PostgresTestDatabase(url,
+                    System.getenv().getOrDefault("TEST_POSTGRES_USERNAME", "postgres"),
+                    System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "postgres"));
+        }
+        if (container == null) {
+            container = new PostgreSQLContainer<>(IMAGE);
+            container.start();
+        }
+        return new PostgresTestDatabase(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    /**
+     * Aponta o datasource do contexto para este banco, com o Flyway ligado e o Hibernate apenas
+     * validando o esquema criado pelas migrações, como em produção.
+     */
+    public void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", this::url);
+        registry.add("spring.datasource.username", this::username);
+        registry.add("spring.datasource.password", this::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    /**
+     * Flyway configurado como no {@code application.yml} dos serviços, para migrar este banco fora
+     * de um contexto Spring, com o tamanho de bloco de IDs informado.
+     */
+    public Flyway flyway(int idAllocationSize) {
+        return Flyway.configure()
+                .dataSource(url, username, password)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .placeholders(Map.of("id_allocation_size", String.valueOf(idAllocationSize)))
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load();
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    public void execute(String... statements) {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao preparar o banco de teste", e);
+        }
+    }
+
+}
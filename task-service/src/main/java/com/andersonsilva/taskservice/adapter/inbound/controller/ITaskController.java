@@ -1,24 +1,39 @@
 package com.andersonsilva.taskservice.adapter.inbound.controller;
 
+import com.andersonsilva.taskservice.application.dto.BulkResult;
+import com.andersonsilva.taskservice.application.dto.TaskPatchDTO;
 import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
 import com.andersonsilva.taskservice.application.dto.TaskResponseDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatsDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatusUpdateDTO;
 import com.andersonsilva.taskservice.domain.TaskStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 public interface ITaskController {
 
-    ResponseEntity<List<TaskResponseDTO>> getTasks(TaskStatus status, Long userId);
+    ResponseEntity<List<TaskResponseDTO>> getTasks(TaskStatus status, Long userId, String cursor, int limit);
+
+    ResponseEntity<StreamingResponseBody> exportTasks(TaskStatus status, Long userId);
 
     ResponseEntity<TaskResponseDTO> getTaskById(Long id);
 
     ResponseEntity<TaskResponseDTO> createTask(TaskRequestDTO dto);
 
-    ResponseEntity<TaskResponseDTO> updateTask(Long id, TaskRequestDTO dto);
+    ResponseEntity<BulkResult<TaskResponseDTO>> createTasks(List<TaskRequestDTO> dtos);
+
+    ResponseEntity<TaskResponseDTO> updateTask(Long id, String ifMatch, TaskRequestDTO dto);
+
+    ResponseEntity<TaskResponseDTO> patchTask(Long id, String ifMatch, TaskPatchDTO dto);
 
-    ResponseEntity<Void> deleteTask(Long id);
+    ResponseEntity<List<Long>> updateStatus(TaskStatusUpdateDTO dto);
+
+    ResponseEntity<Void> deleteTask(Long id, String ifMatch);
 
     ResponseEntity<Long> countByUserId(Long userId);
 
+    ResponseEntity<TaskStatsDTO> getStats(Long userId, int dueSoonHours);
+
 }
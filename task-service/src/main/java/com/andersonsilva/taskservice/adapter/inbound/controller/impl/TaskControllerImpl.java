@@ -1,19 +1,34 @@
 package com.andersonsilva.taskservice.adapter.inbound.controller.impl;
 
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.shared.web.ETags;
 import com.andersonsilva.taskservice.adapter.inbound.controller.ITaskController;
+import com.andersonsilva.taskservice.application.dto.BulkResult;
+import com.andersonsilva.taskservice.application.dto.TaskPatchDTO;
 import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
 import com.andersonsilva.taskservice.application.dto.TaskResponseDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatsDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatusUpdateDTO;
+import com.andersonsilva.taskservice.application.mapper.TaskMapper;
 import com.andersonsilva.taskservice.application.service.ITaskService;
+import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Tag(name = "Tasks", description = "APIs para gerenciamento de tarefas")
@@ -21,20 +36,25 @@ import java.util.List;
 @RequestMapping("/api/tasks")
 public class TaskControllerImpl implements ITaskController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ITaskService service;
-    private final ModelMapper mapper;
+    private final ObjectMapper objectMapper;
 
-    public TaskControllerImpl(ITaskService service, ModelMapper mapper) {
+    public TaskControllerImpl(ITaskService service, ObjectMapper objectMapper) {
         this.service = service;
-        this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     @Operation(
             summary = "Listar tarefas",
-            description = "Retorna todas as tarefas, com filtros opcionais por status e usuário responsável",
+            description = "Retorna uma página de tarefas ordenadas da mais recente para a mais antiga, com filtros "
+                    + "opcionais por status e usuário responsável. Quando houver mais resultados, o cursor da próxima "
+                    + "página é informado nos cabeçalhos Link (rel=\"next\") e X-Next-Cursor",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
+                    @ApiResponse(responseCode = "200", description = "Página de tarefas retornada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
             }
     )
     @GetMapping
@@ -42,22 +62,64 @@ public class TaskControllerImpl implements ITaskController {
             @Parameter(description = "Status da tarefa: PENDENTE, EM_ANDAMENTO ou CONCLUIDO")
             @RequestParam(required = false) TaskStatus status,
 
+            @Parameter(description = "ID do usuário responsável pelas tarefas")
+            @RequestParam(required = false) Long userId,
+
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Quantidade máxima de tarefas na página (1 a 200)")
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        CursorPage<TaskEntity> page = service.findTasksPage(status, userId, cursor, limit);
+        List<TaskResponseDTO> tasks = TaskMapper.toResponse(page.content());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(tasks);
+    }
+
+    @Override
+    @Operation(
+            summary = "Exportar tarefas",
+            description = "Exporta todas as tarefas em formato NDJSON (um objeto JSON por linha), lidas do banco "
+                    + "de forma incremental, com filtros opcionais por status e usuário responsável",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso")
+            }
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Status da tarefa: PENDENTE, EM_ANDAMENTO ou CONCLUIDO")
+            @RequestParam(required = false) TaskStatus status,
+
             @Parameter(description = "ID do usuário responsável pelas tarefas")
             @RequestParam(required = false) Long userId
     ) {
-        List<TaskResponseDTO> tasks = service.findTasksByStatusAndUserId(status, userId)
-                .stream()
-                .map(task -> mapper.map(task, TaskResponseDTO.class))
-                .toList();
-        return ResponseEntity.ok(tasks);
+        StreamingResponseBody body = outputStream -> {
+            service.exportTasks(status, userId,
+                    task -> writeLine(outputStream, TaskMapper.toResponse(task)));
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Override
     @Operation(
             summary = "Obter tarefa por ID",
-            description = "Busca uma tarefa específica pelo seu identificador",
+            description = "Busca uma tarefa específica pelo seu identificador. A resposta traz a versão da tarefa "
+                    + "no cabeçalho ETag; com If-None-Match igual a ela, responde 304 sem corpo",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+                    @ApiResponse(responseCode = "304", description = "Tarefa não mudou desde a ETag informada"),
                     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
             }
     )
@@ -66,8 +128,11 @@ public class TaskControllerImpl implements ITaskController {
             @Parameter(description = "ID da tarefa", required = true)
             @PathVariable Long id
     ) {
-        TaskResponseDTO dto = mapper.map(service.findById(id), TaskResponseDTO.class);
-        return ResponseEntity.ok(dto);
+        // Com If-None-Match igual à ETag, o Spring MVC responde 304 sem serializar o corpo
+        TaskEntity task = service.findById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(task.getVersion()))
+                .body(TaskMapper.toResponse(task));
     }
 
     @Override
@@ -86,14 +151,36 @@ public class TaskControllerImpl implements ITaskController {
     public ResponseEntity<TaskResponseDTO> createTask(
             @Valid @RequestBody TaskRequestDTO dto
     ) {
-        TaskResponseDTO response = mapper.map(
+        TaskResponseDTO response = TaskMapper.toResponse(
                 service.createTask(
                         dto.userId(), dto.title(), dto.description(), dto.deadline()
-                ), TaskResponseDTO.class
+                )
         );
         return ResponseEntity.status(201).body(response);
     }
 
+    @Override
+    @Operation(
+            summary = "Criar tarefas em lote",
+            description = "Registra até 5000 tarefas de uma vez. As tarefas válidas são criadas e retornadas na ordem "
+                    + "de envio; as inválidas são listadas em errors com a posição na requisição e os motivos",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lote processado"),
+                    @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite"),
+                    @ApiResponse(responseCode = "503", description = "Serviço de usuários indisponível")
+            }
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Tarefas a serem criadas", required = true
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult<TaskResponseDTO>> createTasks(
+            @RequestBody List<TaskRequestDTO> dtos
+    ) {
+        BulkResult<TaskEntity> result = service.createTasks(dtos);
+        return ResponseEntity.ok(new BulkResult<>(TaskMapper.toResponse(result.created()), result.errors()));
+    }
+
     @Override
     @Operation(
             summary = "Atualizar tarefa",
@@ -101,7 +188,9 @@ public class TaskControllerImpl implements ITaskController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
                     @ApiResponse(responseCode = "400", description = "Dados inválidos ou tentativa de editar tarefa concluída"),
-                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+                    @ApiResponse(responseCode = "409", description = "Tarefa alterada por outra requisição durante a atualização"),
+                    @ApiResponse(responseCode = "412", description = "Tarefa alterada desde a ETag informada em If-Match")
             }
     )
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -111,14 +200,68 @@ public class TaskControllerImpl implements ITaskController {
     public ResponseEntity<TaskResponseDTO> updateTask(
             @Parameter(description = "ID da tarefa a ser atualizada", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag obtida na consulta; se informada, a operação só é feita se a tarefa não mudou")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequestDTO dto
     ) {
-        TaskResponseDTO response = mapper.map(
-                service.updateTask(
-                        id, dto.title(), dto.description(), dto.status(), dto.deadline()
-                ), TaskResponseDTO.class
+        TaskEntity updated = service.updateTask(
+                id, dto.title(), dto.description(), dto.status(), dto.deadline(), ETags.expectedVersion(ifMatch)
+        );
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updated.getVersion()))
+                .body(TaskMapper.toResponse(updated));
+    }
+
+    @Override
+    @Operation(
+            summary = "Atualizar tarefa parcialmente",
+            description = "Altera apenas os campos informados de uma tarefa existente, exceto se estiver concluída. "
+                    + "Campos ausentes ou nulos mantêm o valor atual",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Dados inválidos ou tentativa de editar tarefa concluída"),
+                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+                    @ApiResponse(responseCode = "409", description = "Tarefa alterada por outra requisição durante a atualização"),
+                    @ApiResponse(responseCode = "412", description = "Tarefa alterada desde a ETag informada em If-Match")
+            }
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Campos da tarefa a alterar", required = true
+    )
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponseDTO> patchTask(
+            @Parameter(description = "ID da tarefa a ser atualizada", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ETag obtida na consulta; se informada, a operação só é feita se a tarefa não mudou")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskPatchDTO dto
+    ) {
+        TaskEntity updated = service.patchTask(
+                id, dto.title(), dto.description(), dto.status(), dto.deadline(), ETags.expectedVersion(ifMatch)
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updated.getVersion()))
+                .body(TaskMapper.toResponse(updated));
+    }
+
+    @Override
+    @Operation(
+            summary = "Alterar status em lote",
+            description = "Muda o status de até 50000 tarefas de uma vez. Tarefas concluídas, inexistentes ou que já "
+                    + "estão no status informado são ignoradas; a resposta traz os IDs das tarefas alteradas",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "IDs das tarefas alteradas"),
+                    @ApiResponse(responseCode = "400", description = "Lista de IDs vazia, acima do limite ou status ausente")
+            }
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "IDs das tarefas e novo status", required = true
+    )
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<List<Long>> updateStatus(
+            @Valid @RequestBody TaskStatusUpdateDTO dto
+    ) {
+        return ResponseEntity.ok(service.updateStatus(dto.ids(), dto.status()));
     }
 
     @Override
@@ -127,15 +270,18 @@ public class TaskControllerImpl implements ITaskController {
             description = "Exclui a tarefa identificada pelo ID (sem corpo de resposta)",
             responses = {
                     @ApiResponse(responseCode = "204", description = "Tarefa removida com sucesso"),
-                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+                    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+                    @ApiResponse(responseCode = "412", description = "Tarefa alterada desde a ETag informada em If-Match")
             }
     )
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "ID da tarefa a ser removida", required = true)
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(description = "ETag obtida na consulta; se informada, a operação só é feita se a tarefa não mudou")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        service.deleteTask(id);
+        service.deleteTask(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -155,4 +301,35 @@ public class TaskControllerImpl implements ITaskController {
         return ResponseEntity.ok(service.countTasksByUserId(userId));
     }
 
+    @Override
+    @Operation(
+            summary = "Estatísticas de tarefas",
+            description = "Retorna a quantidade de tarefas por status, o total, as não concluídas com prazo vencido "
+                    + "e as que vencem nas próximas horas, de um usuário ou de todos quando o usuário não é informado. "
+                    + "Calculado por agregações no banco, sem listar as tarefas",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Prazo de vencimento próximo inválido")
+            }
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getStats(
+            @Parameter(description = "ID do usuário; se ausente, considera todas as tarefas")
+            @RequestParam(required = false) Long userId,
+
+            @Parameter(description = "Janela, em horas, para considerar uma tarefa a vencer (1 a 720)")
+            @RequestParam(defaultValue = "24") int dueSoonHours
+    ) {
+        return ResponseEntity.ok(service.getStats(userId, dueSoonHours));
+    }
+
+    private void writeLine(OutputStream outputStream, TaskResponseDTO dto) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.andersonsilva.taskservice.adapter.inbound.scheduler;
+
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TaskCounterReconciliationJob {
+
+    private final ITaskCounterService counterService;
+
+    public TaskCounterReconciliationJob(ITaskCounterService counterService) {
+        this.counterService = counterService;
+    }
+
+    @Scheduled(cron = "${tasks.counters.reconcile-cron:0 30 * * * *}")
+    public void reconcile() {
+        try {
+            int repaired = counterService.reconcile();
+            if (repaired > 0) {
+                log.warn("{} contadores de tarefas divergentes foram corrigidos", repaired);
+            }
+        } catch (Exception e) {
+            // Conflitos com escritas concorrentes são resolvidos na próxima execução
+            log.warn("Falha ao reconciliar contadores de tarefas: {}", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.andersonsilva.taskservice.adapter.inbound.scheduler;
+
+import com.andersonsilva.taskservice.application.service.IUserReplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relay por polling: consulta periodicamente o feed de eventos do user-service e
+ * mantém a projeção known_users atualizada, sem depender de um broker de mensagens.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "users.replication.enabled", havingValue = "true", matchIfMissing = true)
+public class UserEventPollingJob {
+
+    private final IUserReplicationService replicationService;
+
+    public UserEventPollingJob(IUserReplicationService replicationService) {
+        this.replicationService = replicationService;
+    }
+
+    @Scheduled(fixedDelayString = "${users.replication.poll-interval:5s}")
+    public void poll() {
+        try {
+            int replicated = replicationService.replicatePendingEvents();
+            if (replicated > 0) {
+                log.debug("{} eventos de usuário replicados", replicated);
+            }
+        } catch (Exception e) {
+            log.warn("Falha ao replicar eventos de usuário: {}", e.getMessage());
+        }
+    }
+
+}
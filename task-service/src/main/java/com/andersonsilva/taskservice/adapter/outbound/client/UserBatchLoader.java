@@ -0,0 +1,215 @@
+package com.andersonsilva.taskservice.adapter.outbound.client;
+
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.exception.UserServiceUnavailableException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa consultas concorrentes de usuários por ID em uma única chamada a
+ * {@code POST /api/users/batch}.
+ * <p>
+ * Sem nenhuma chamada ao user-service em andamento, a consulta é enviada na hora. Com uma chamada
+ * em andamento, a primeira thread a registrar um ID abre uma janela, aguarda até
+ * {@code users.lookup.batch-window} e faz a chamada em nome de todas as que chegaram nesse
+ * intervalo; as demais apenas esperam o resultado. Quando a janela atinge o tamanho máximo, a
+ * thread que a completou dispara a chamada imediatamente e a primeira deixa de esperar. Cada
+ * thread só dispara a janela que abriu ou completou, nunca uma aberta depois.
+ * Uma janela com um único ID usa {@code GET /api/users/{id}}.
+ * <p>
+ * Cada chamada passa por um bulkhead, que limita as chamadas simultâneas ao user-service, e por um
+ * circuit breaker, ambos configurados em {@code resilience4j.*.instances.user-service}. Timeouts,
+ * erros 5xx, circuito aberto e bulkhead cheio viram {@link UserServiceUnavailableException}, assim
+ * como uma espera pelo resultado da janela maior que {@code users.lookup.max-wait}.
+ */
+@Component
+public class UserBatchLoader {
+
+    public static final String USER_SERVICE = "user-service";
+
+    private final UserClient userClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<UserDTO>>> pending = new LinkedHashMap<>();
+    private int inFlight;
+
+    @Autowired
+    public UserBatchLoader(UserClient userClient,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry,
+                           @Value("${users.lookup.batch-window:5ms}") Duration window,
+                           @Value("${users.lookup.max-batch-size:100}") int maxBatchSize,
+                           @Value("${users.lookup.max-wait:5s}") Duration maxWait) {
+        this.userClient = userClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(USER_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(USER_SERVICE);
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Retorna o usuário, ou vazio quando o user-service não o conhece. Falhas de comunicação
+     * são propagadas para todas as consultas da mesma janela.
+     *
+     * @throws UserServiceUnavailableException se o user-service estiver indisponível
+     */
+    public Optional<UserDTO> load(Long userId) {
+        CompletableFuture<Optional<UserDTO>> result;
+        Map<Long, CompletableFuture<Optional<UserDTO>>> batch;
+        Map<Long, CompletableFuture<Optional<UserDTO>>> ready = null;
+        boolean leader;
+
+        synchronized (lock) {
+            batch = pending;
+            leader = batch.isEmpty();
+            result = batch.computeIfAbsent(userId, id -> new CompletableFuture<>());
+            if (batch.size() >= maxBatchSize || (leader && inFlight == 0)) {
+                ready = claim(batch);
+            }
+        }
+
+        if (ready == null && leader && !completesWithinWindow(result)) {
+            synchronized (lock) {
+                ready = claim(batch);
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+
+        try {
+            return result.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new UserServiceUnavailableException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserServiceUnavailableException(e);
+        }
+    }
+
+    /**
+     * Consulta um conjunto conhecido de IDs de uma vez, sem passar pela janela de agrupamento,
+     * em chamadas de no máximo {@code users.lookup.max-batch-size} IDs. IDs que o user-service
+     * não conhece ficam fora do mapa.
+     *
+     * @throws UserServiceUnavailableException se o user-service estiver indisponível
+     */
+    public Map<Long, UserDTO> loadAll(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(Set.copyOf(userIds));
+        Map<Long, UserDTO> found = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            found.putAll(fetch(ids.subList(from, Math.min(from + maxBatchSize, ids.size()))));
+        }
+        return found;
+    }
+
+    /**
+     * Retira {@code batch} da janela aberta para dispará-lo, ou retorna {@code null} se ele já foi
+     * disparado por outra thread. Deve ser chamado com {@code lock}.
+     */
+    private Map<Long, CompletableFuture<Optional<UserDTO>>> claim(
+            Map<Long, CompletableFuture<Optional<UserDTO>>> batch) {
+        if (pending != batch) {
+            return null;
+        }
+        pending = new LinkedHashMap<>();
+        inFlight++;
+        return batch;
+    }
+
+    private boolean completesWithinWindow(CompletableFuture<?> result) {
+        if (window.isZero() || window.isNegative()) {
+            return false;
+        }
+        try {
+            result.get(window.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<Optional<UserDTO>>> batch) {
+        try {
+            Map<Long, UserDTO> found = fetch(List.copyOf(batch.keySet()));
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (Throwable e) {
+            // Qualquer falha precisa liberar as threads que esperam por esta janela
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+    }
+
+    private Map<Long, UserDTO> fetch(List<Long> ids) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, () -> call(ids)));
+        } catch (CallNotPermittedException | BulkheadFullException | RetryableException
+                 | FeignException.FeignServerException e) {
+            throw new UserServiceUnavailableException(e);
+        }
+    }
+
+    private Map<Long, UserDTO> call(List<Long> ids) {
+        if (ids.size() == 1) {
+            try {
+                UserDTO user = userClient.findById(ids.get(0));
+                return user == null ? Map.of() : Map.of(ids.get(0), user);
+            } catch (FeignException.NotFound e) {
+                return Map.of();
+            }
+        }
+        return userClient.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(UserDTO::id, Function.identity(), (a, b) -> a));
+    }
+
+}
@@ -1,14 +1,49 @@
 package com.andersonsilva.taskservice.adapter.outbound.client;
 
 import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.dto.UserEventDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "user-service")
 public interface UserClient {
 
+    /** Cabeçalho com o cursor da próxima página de {@link #findPage}. */
+    String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /** Cabeçalho da resposta 410 de {@link #findEvents} com a posição do evento mais antigo retido. */
+    String OLDEST_EVENT_POSITION_HEADER = "X-Oldest-Event-Position";
+
+    /** Ordenação por data de criação; única que não desloca o cursor quando um usuário é renomeado. */
+    String SORT_BY_CREATED_AT = "CREATED_AT";
+
+    /** Maior página aceita por {@link #findPage}. */
+    int MAX_PAGE_SIZE = 200;
+
+    @GetMapping("/api/users")
+    ResponseEntity<List<UserDTO>> findPage(@RequestParam("sort") String sort,
+                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam("limit") int limit);
+
     @GetMapping("/api/users/{id}")
     UserDTO findById(@PathVariable("id") Long id);
 
+    @PostMapping("/api/users/batch")
+    List<UserDTO> findAllById(@RequestBody Collection<Long> ids);
+
+    /**
+     * Eventos com posição maior que {@code after}. Responde 410 ({@code FeignException.Gone})
+     * quando eventos posteriores a {@code after} já foram expurgados.
+     */
+    @GetMapping("/api/users/events")
+    List<UserEventDTO> findEvents(@RequestParam("after") Long after, @RequestParam("limit") int limit);
+
 }
@@ -0,0 +1,9 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+public interface DeadlineCountView {
+
+    long getOverdue();
+
+    long getDueSoon();
+
+}
@@ -0,0 +1,14 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface KnownUserRepository extends JpaRepository<KnownUserEntity, Long> {
+
+    @Query("SELECT k.id FROM KnownUserEntity k")
+    List<Long> findAllIds();
+
+}
@@ -0,0 +1,7 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.ReplicationOffsetEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReplicationOffsetRepository extends JpaRepository<ReplicationOffsetEntity, String> {
+}
@@ -0,0 +1,11 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+
+public interface StatusCountView {
+
+    TaskStatus getStatus();
+
+    long getTotal();
+
+}
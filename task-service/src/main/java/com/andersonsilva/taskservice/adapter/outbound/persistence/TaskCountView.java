@@ -0,0 +1,13 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+
+public interface TaskCountView {
+
+    Long getUserId();
+
+    TaskStatus getStatus();
+
+    long getTotal();
+
+}
@@ -0,0 +1,44 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskCounterEntity;
+import com.andersonsilva.taskservice.domain.TaskCounterId;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskCounterRepository extends JpaRepository<TaskCounterEntity, TaskCounterId> {
+
+    /**
+     * Cria o contador zerado caso ainda não exista. Seguro sob concorrência: escritas simultâneas
+     * para o mesmo usuário e status aguardam a primeira e não geram violação de chave.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO task_counters (user_id, status, task_count)
+                VALUES (:userId, :status, 0)
+                ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    void createIfAbsent(@Param("userId") Long userId, @Param("status") String status);
+
+    @Modifying
+    @Query("""
+                UPDATE TaskCounterEntity c
+                SET c.taskCount = c.taskCount + :delta
+                WHERE c.userId = :userId AND c.status = :status
+            """)
+    int add(@Param("userId") Long userId, @Param("status") TaskStatus status, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.taskCount), 0) FROM TaskCounterEntity c WHERE c.userId = :userId")
+    long sumByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c.status AS status, c.taskCount AS total FROM TaskCounterEntity c WHERE c.userId = :userId")
+    List<StatusCountView> findCountsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c.status AS status, SUM(c.taskCount) AS total FROM TaskCounterEntity c GROUP BY c.status")
+    List<StatusCountView> sumGroupedByStatus();
+
+}
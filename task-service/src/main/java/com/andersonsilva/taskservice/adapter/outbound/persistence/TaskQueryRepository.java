@@ -0,0 +1,30 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de listagem de tarefas com filtros opcionais por status e usuário.
+ * Apenas os filtros informados entram no SQL, de modo que cada combinação tem
+ * o seu próprio plano de execução no banco.
+ */
+public interface TaskQueryRepository {
+
+    int STREAM_FETCH_SIZE = 500;
+
+    List<TaskEntity> findTasks(TaskStatus status, Long userId, Limit limit);
+
+    List<TaskEntity> findTasksBefore(TaskStatus status, Long userId, LocalDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * Percorre as tarefas com um cursor do banco, buscando {@value #STREAM_FETCH_SIZE} linhas por vez.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<TaskEntity> streamTasks(TaskStatus status, Long userId);
+
+}
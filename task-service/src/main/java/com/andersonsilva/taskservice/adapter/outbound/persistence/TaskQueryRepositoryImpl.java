@@ -0,0 +1,78 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    private final EntityManager entityManager;
+
+    public TaskQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskEntity> findTasks(TaskStatus status, Long userId, Limit limit) {
+        return applyLimit(createQuery(status, userId, null, null), limit).getResultList();
+    }
+
+    @Override
+    public List<TaskEntity> findTasksBefore(TaskStatus status, Long userId, LocalDateTime createdAt, Long id, Limit limit) {
+        return applyLimit(createQuery(status, userId, createdAt, id), limit).getResultList();
+    }
+
+    @Override
+    public Stream<TaskEntity> streamTasks(TaskStatus status, Long userId) {
+        return createQuery(status, userId, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<TaskEntity> createQuery(TaskStatus status, Long userId,
+                                               LocalDateTime createdBefore, Long idBefore) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> query = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        Path<LocalDateTime> createdAt = task.get("createdAt");
+        Path<Long> id = task.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (userId != null) {
+            predicates.add(cb.equal(task.get("userId"), userId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (createdBefore != null) {
+            // Equivale a (created_at, id) < (:createdAt, :id); o primeiro termo limita a faixa do índice
+            predicates.add(cb.lessThanOrEqualTo(createdAt, createdBefore));
+            predicates.add(cb.or(cb.lessThan(createdAt, createdBefore), cb.lessThan(id, idBefore)));
+        }
+
+        query.select(task)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query);
+    }
+
+    private static TypedQuery<TaskEntity> applyLimit(TypedQuery<TaskEntity> query, Limit limit) {
+        return limit.isLimited() ? query.setMaxResults(limit.max()) : query;
+    }
+
+}
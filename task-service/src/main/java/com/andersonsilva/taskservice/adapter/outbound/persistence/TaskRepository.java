@@ -2,22 +2,76 @@ package com.andersonsilva.taskservice.adapter.outbound.persistence;
 
 import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskQueryRepository {
+
+    long countByUserId(Long userId);
 
     @Query("""
-                SELECT t FROM TaskEntity t
-                WHERE (:status IS NULL OR t.status = :status)
-                    AND (:userId IS NULL OR t.userId = :userId)
-                ORDER BY t.createdAt DESC
+                SELECT t.userId AS userId, t.status AS status, COUNT(t) AS total
+                FROM TaskEntity t
+                GROUP BY t.userId, t.status
             """)
-    List<TaskEntity> findTasks(@Param("status") TaskStatus status, @Param("userId") Long userId);
+    List<TaskCountView> countGroupedByUserAndStatus();
 
-    long countByUserId(Long userId);
+    /**
+     * Bloqueia, em ordem de ID, as tarefas que uma transição para {@code status} alteraria: as que
+     * não estão concluídas nem já estão no status de destino. A ordem fixa evita deadlocks entre
+     * transições em lote concorrentes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT t.id AS id, t.userId AS userId, t.status AS status
+                FROM TaskEntity t
+                WHERE t.id IN :ids
+                  AND t.status <> com.andersonsilva.taskservice.domain.TaskStatus.CONCLUIDO
+                  AND t.status <> :status
+                ORDER BY t.id
+            """)
+    List<TaskStatusView> lockForStatusChange(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status);
+
+    @Modifying
+    @Query("""
+                UPDATE TaskEntity t
+                SET t.status = :status, t.version = t.version + 1
+                WHERE t.id IN :ids
+                  AND t.status <> com.andersonsilva.taskservice.domain.TaskStatus.CONCLUIDO
+            """)
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status);
+
+    /**
+     * Conta as tarefas não concluídas com prazo vencido (antes de {@code now}) e a vencer (entre
+     * {@code now} e {@code dueBefore}) em uma única agregação, sem carregar as entidades.
+     */
+    @Query("""
+                SELECT COALESCE(SUM(CASE WHEN t.deadline < :now THEN 1 ELSE 0 END), 0) AS overdue,
+                       COALESCE(SUM(CASE WHEN t.deadline >= :now THEN 1 ELSE 0 END), 0) AS dueSoon
+                FROM TaskEntity t
+                WHERE t.status <> com.andersonsilva.taskservice.domain.TaskStatus.CONCLUIDO
+                  AND t.deadline < :dueBefore
+            """)
+    DeadlineCountView countOpenByDeadline(@Param("now") LocalDateTime now,
+                                          @Param("dueBefore") LocalDateTime dueBefore);
+
+    @Query("""
+                SELECT COALESCE(SUM(CASE WHEN t.deadline < :now THEN 1 ELSE 0 END), 0) AS overdue,
+                       COALESCE(SUM(CASE WHEN t.deadline >= :now THEN 1 ELSE 0 END), 0) AS dueSoon
+                FROM TaskEntity t
+                WHERE t.userId = :userId
+                  AND t.status <> com.andersonsilva.taskservice.domain.TaskStatus.CONCLUIDO
+                  AND t.deadline < :dueBefore
+            """)
+    DeadlineCountView countOpenByDeadline(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                          @Param("dueBefore") LocalDateTime dueBefore);
 
 }
@@ -0,0 +1,8 @@
+package com.andersonsilva.taskservice.application.dto;
+
+import java.util.List;
+
+public record BulkItemError(
+        int index,
+        List<String> messages
+) {}
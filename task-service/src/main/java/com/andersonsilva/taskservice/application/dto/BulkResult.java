@@ -0,0 +1,12 @@
+package com.andersonsilva.taskservice.application.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote: os itens processados, na ordem em que foram enviados, e os
+ * itens rejeitados, identificados pela posição na requisição.
+ */
+public record BulkResult<T>(
+        List<T> created,
+        List<BulkItemError> errors
+) {}
@@ -0,0 +1,21 @@
+package com.andersonsilva.taskservice.application.dto;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alteração parcial de uma tarefa: apenas os campos informados são alterados, os ausentes
+ * (ou nulos) mantêm o valor atual.
+ */
+public record TaskPatchDTO(
+        @Pattern(regexp = "(?s).*\\S.*", message = "Título não pode ficar em branco")
+        String title,
+
+        String description,
+
+        TaskStatus status,
+
+        LocalDateTime deadline
+) {}
@@ -0,0 +1,19 @@
+package com.andersonsilva.taskservice.application.dto;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Resumo das tarefas de um usuário, ou de todos quando {@code userId} é nulo. {@code overdue} e
+ * {@code dueSoon} consideram apenas tarefas não concluídas: as com prazo vencido e as que vencem
+ * nas próximas {@code dueSoonHours} horas.
+ */
+public record TaskStatsDTO(
+        Long userId,
+        Map<TaskStatus, Long> byStatus,
+        long total,
+        long overdue,
+        long dueSoon,
+        int dueSoonHours
+) {}
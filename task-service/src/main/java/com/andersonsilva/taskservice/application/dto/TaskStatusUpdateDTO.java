@@ -0,0 +1,15 @@
+package com.andersonsilva.taskservice.application.dto;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record TaskStatusUpdateDTO(
+        @NotEmpty(message = "Informe ao menos uma tarefa")
+        List<Long> ids,
+
+        @NotNull(message = "Status é obrigatório")
+        TaskStatus status
+) {}
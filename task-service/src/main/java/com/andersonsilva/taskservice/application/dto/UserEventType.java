@@ -0,0 +1,7 @@
+package com.andersonsilva.taskservice.application.dto;
+
+public enum UserEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,13 @@
+package com.andersonsilva.taskservice.application.exception;
+
+/**
+ * O user-service não respondeu a tempo, retornou erro ou está com o circuito aberto. Diferente de
+ * um usuário inexistente: a operação pode ser repetida mais tarde.
+ */
+public class UserServiceUnavailableException extends RuntimeException {
+
+    public UserServiceUnavailableException(Throwable cause) {
+        super("Serviço de usuários indisponível. Tente novamente em instantes", cause);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.andersonsilva.taskservice.application.mapper;
+
+import com.andersonsilva.taskservice.application.dto.TaskResponseDTO;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+
+import java.util.List;
+
+/**
+ * Conversões entre entidades de tarefa e DTOs de resposta, escritas à mão para que o caminho
+ * de resposta não dependa de reflexão.
+ */
+public final class TaskMapper {
+
+    private TaskMapper() {
+    }
+
+    public static TaskResponseDTO toResponse(TaskEntity task) {
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getUserId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getDeadline()
+        );
+    }
+
+    public static List<TaskResponseDTO> toResponse(List<TaskEntity> tasks) {
+        TaskResponseDTO[] responses = new TaskResponseDTO[tasks.size()];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = toResponse(tasks.get(i));
+        }
+        return List.of(responses);
+    }
+
+}
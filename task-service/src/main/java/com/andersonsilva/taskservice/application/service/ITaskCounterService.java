@@ -0,0 +1,25 @@
+package com.andersonsilva.taskservice.application.service;
+
+import com.andersonsilva.taskservice.domain.TaskStatus;
+
+import java.util.Map;
+
+public interface ITaskCounterService {
+
+    void increment(Long userId, TaskStatus status);
+
+    void increment(Long userId, TaskStatus status, long count);
+
+    void decrement(Long userId, TaskStatus status);
+
+    void move(Long userId, TaskStatus from, TaskStatus to);
+
+    void move(Long userId, TaskStatus from, TaskStatus to, long count);
+
+    long countByUserId(Long userId);
+
+    Map<TaskStatus, Long> countByStatus(Long userId);
+
+    int reconcile();
+
+}
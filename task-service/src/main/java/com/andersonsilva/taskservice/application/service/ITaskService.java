@@ -1,23 +1,41 @@
 package com.andersonsilva.taskservice.application.service;
 
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.taskservice.application.dto.BulkResult;
+import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatsDTO;
 import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ITaskService {
 
-    List<TaskEntity> findTasksByStatusAndUserId(TaskStatus status, Long userId);
+    CursorPage<TaskEntity> findTasksPage(TaskStatus status, Long userId, String cursor, int limit);
+
+    void exportTasks(TaskStatus status, Long userId, Consumer<TaskEntity> consumer);
 
     TaskEntity findById(Long id);
 
     TaskEntity createTask(Long userId, String title, String description, LocalDateTime deadline);
 
-    TaskEntity updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline);
+    BulkResult<TaskEntity> createTasks(List<TaskRequestDTO> requests);
+
+    TaskEntity updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline,
+                          Long expectedVersion);
+
+    TaskEntity patchTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline,
+                         Long expectedVersion);
 
-    void deleteTask(Long id);
+    List<Long> updateStatus(Collection<Long> ids, TaskStatus status);
+
+    void deleteTask(Long id, Long expectedVersion);
 
     long countTasksByUserId(Long userId);
 
+    TaskStatsDTO getStats(Long userId, int dueSoonHours);
+
 }
@@ -0,0 +1,15 @@
+package com.andersonsilva.taskservice.application.service;
+
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface IUserLookupService {
+
+    Optional<UserDTO> findById(Long userId);
+
+    Map<Long, UserDTO> findAllById(Collection<Long> userIds);
+
+}
@@ -0,0 +1,7 @@
+package com.andersonsilva.taskservice.application.service;
+
+public interface IUserReplicationService {
+
+    int replicatePendingEvents();
+
+}
@@ -0,0 +1,141 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.persistence.StatusCountView;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskCountView;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskCounterRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
+import com.andersonsilva.taskservice.domain.TaskCounterEntity;
+import com.andersonsilva.taskservice.domain.TaskCounterId;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskCounterServiceImpl implements ITaskCounterService {
+
+    private final TaskCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+
+    @Autowired
+    public TaskCounterServiceImpl(TaskCounterRepository counterRepository, TaskRepository taskRepository) {
+        this.counterRepository = counterRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(Long userId, TaskStatus status) {
+        add(userId, status, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(Long userId, TaskStatus status, long count) {
+        add(userId, status, count);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decrement(Long userId, TaskStatus status) {
+        add(userId, status, -1);
+    }
+
+    /**
+     * As duas linhas são sempre atualizadas na ordem dos status, e não na direção da mudança:
+     * do contrário, duas transações movendo tarefas do mesmo usuário em sentidos opostos
+     * (PENDENTE -> CONCLUIDO e CONCLUIDO -> PENDENTE) bloqueiam uma à outra.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long userId, TaskStatus from, TaskStatus to) {
+        move(userId, from, to, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long userId, TaskStatus from, TaskStatus to, long count) {
+        if (from == to || to == null || count == 0) {
+            return;
+        }
+        if (from.compareTo(to) < 0) {
+            add(userId, from, -count);
+            add(userId, to, count);
+        } else {
+            add(userId, to, count);
+            add(userId, from, -count);
+        }
+    }
+
+    @Override
+    public long countByUserId(Long userId) {
+        return counterRepository.sumByUserId(userId);
+    }
+
+    /**
+     * Quantidade de tarefas em cada status, lida dos contadores: de um usuário ou, se
+     * {@code userId} for nulo, de todos. Status sem tarefas aparecem com zero.
+     */
+    @Override
+    public Map<TaskStatus, Long> countByStatus(Long userId) {
+        List<StatusCountView> counts = userId == null
+                ? counterRepository.sumGroupedByStatus()
+                : counterRepository.findCountsByUserId(userId);
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (StatusCountView count : counts) {
+            byStatus.put(count.getStatus(), count.getTotal());
+        }
+        return byStatus;
+    }
+
+    /**
+     * Compara os contadores com uma contagem agregada de tasks e corrige as divergências.
+     * As duas leituras usam o mesmo snapshot (REPEATABLE READ) e a correção é aplicada como
+     * diferença, preservando incrementos de transações concluídas depois do snapshot.
+     *
+     * @return quantidade de contadores corrigidos
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        Map<TaskCounterId, Long> actual = new HashMap<>();
+        for (TaskCountView count : taskRepository.countGroupedByUserAndStatus()) {
+            actual.put(new TaskCounterId(count.getUserId(), count.getStatus()), count.getTotal());
+        }
+
+        int repaired = 0;
+        for (TaskCounterEntity counter : counterRepository.findAll()) {
+            Long total = actual.remove(new TaskCounterId(counter.getUserId(), counter.getStatus()));
+            long expected = total == null ? 0 : total;
+            if (counter.getTaskCount() != expected) {
+                counterRepository.add(counter.getUserId(), counter.getStatus(), expected - counter.getTaskCount());
+                repaired++;
+            }
+        }
+        for (Map.Entry<TaskCounterId, Long> missing : actual.entrySet()) {
+            add(missing.getKey().getUserId(), missing.getKey().getStatus(), missing.getValue());
+            repaired++;
+        }
+        return repaired;
+    }
+
+    private void add(Long userId, TaskStatus status, long delta) {
+        if (counterRepository.add(userId, status, delta) == 0) {
+            counterRepository.createIfAbsent(userId, status.name());
+            counterRepository.add(userId, status, delta);
+        }
+    }
+
+}
@@ -1,33 +1,105 @@
 package com.andersonsilva.taskservice.application.service.impl;
 
-import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.shared.exception.PreconditionFailedException;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.DeadlineCountView;
 import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskStatusView;
+import com.andersonsilva.taskservice.application.dto.BulkItemError;
+import com.andersonsilva.taskservice.application.dto.BulkResult;
+import com.andersonsilva.taskservice.application.dto.TaskCursor;
+import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatsDTO;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
 import com.andersonsilva.taskservice.application.service.ITaskService;
+import com.andersonsilva.taskservice.application.service.IUserLookupService;
 import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements ITaskService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BULK_SIZE = 5000;
+    public static final int MAX_STATUS_UPDATE_SIZE = 50_000;
+    public static final int MAX_DUE_SOON_HOURS = 720;
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+    private static final int BULK_FLUSH_SIZE = 500;
+    private static final String VERSION_CHANGED = "A tarefa foi alterada por outra requisição";
+
     private final TaskRepository repository;
-    private final UserClient userClient;
+    private final IUserLookupService userLookup;
+    private final ITaskCounterService counterService;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository repository, UserClient userClient) {
+    public TaskServiceImpl(TaskRepository repository, IUserLookupService userLookup,
+                           ITaskCounterService counterService, EntityManager entityManager,
+                           Validator validator) {
         this.repository = repository;
-        this.userClient = userClient;
+        this.userLookup = userLookup;
+        this.counterService = counterService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+    }
+
+    @Override
+    public CursorPage<TaskEntity> findTasksPage(TaskStatus status, Long userId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<TaskEntity> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = repository.findTasks(status, userId, fetchLimit);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            tasks = repository.findTasksBefore(status, userId, after.createdAt(), after.id(), fetchLimit);
+        }
+
+        if (tasks.size() <= limit) {
+            return new CursorPage<>(tasks, null);
+        }
+
+        List<TaskEntity> content = tasks.subList(0, limit);
+        return new CursorPage<>(content, TaskCursor.of(content.get(limit - 1)).encode());
     }
 
     @Override
-    public List<TaskEntity> findTasksByStatusAndUserId(TaskStatus status, Long userId) {
-        return repository.findTasks(status, userId);
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskStatus status, Long userId, Consumer<TaskEntity> consumer) {
+        try (Stream<TaskEntity> tasks = repository.streamTasks(status, userId)) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                // Remove do contexto de persistência para manter o uso de memória constante
+                entityManager.detach(task);
+            });
+        }
     }
 
     @Override
@@ -39,11 +111,8 @@ public class TaskServiceImpl implements ITaskService {
     @Override
     @Transactional
     public TaskEntity createTask(Long userId, String title, String description, LocalDateTime deadline) {
-        try {
-            userClient.findById(userId);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Usuário não encontrado");
-        }
+        userLookup.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
 
         TaskEntity task = TaskEntity.builder()
                 .userId(userId)
@@ -53,42 +122,246 @@ public class TaskServiceImpl implements ITaskService {
                 .deadline(deadline)
                 .build();
 
-        return repository.save(task);
+        TaskEntity saved = repository.save(task);
+        counterService.increment(userId, TaskStatus.PENDENTE);
+        return saved;
     }
 
+    /**
+     * Cria as tarefas válidas em uma única transação e devolve as rejeitadas com o motivo.
+     * Cada usuário distinto é consultado uma única vez, e os INSERTs são enviados em lotes JDBC
+     * ({@code hibernate.jdbc.batch_size}), com o contexto de persistência esvaziado a cada
+     * {@value #BULK_FLUSH_SIZE} tarefas. Os contadores recebem um único incremento por usuário.
+     */
     @Override
     @Transactional
-    public TaskEntity updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline) {
+    public BulkResult<TaskEntity> createTasks(List<TaskRequestDTO> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Informe entre 1 e " + MAX_BULK_SIZE + " tarefas por lote");
+        }
+
+        List<BulkItemError> errors = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        for (TaskRequestDTO request : requests) {
+            if (request != null && request.userId() != null) {
+                userIds.add(request.userId());
+            }
+        }
+        Map<Long, UserDTO> users = userLookup.findAllById(userIds);
+
+        List<TaskEntity> created = new ArrayList<>();
+        Map<Long, Long> createdByUser = new TreeMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            TaskRequestDTO request = requests.get(index);
+            List<String> messages = validate(request, users);
+            if (!messages.isEmpty()) {
+                errors.add(new BulkItemError(index, messages));
+                continue;
+            }
+
+            created.add(repository.save(TaskEntity.builder()
+                    .userId(request.userId())
+                    .title(request.title())
+                    .description(request.description())
+                    .status(TaskStatus.PENDENTE)
+                    .deadline(request.deadline())
+                    .build()));
+            createdByUser.merge(request.userId(), 1L, Long::sum);
+
+            if (created.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        // Em ordem de usuário, como as demais atualizações de contadores, para evitar deadlocks
+        createdByUser.forEach((userId, count) -> counterService.increment(userId, TaskStatus.PENDENTE, count));
+        return new BulkResult<>(created, errors);
+    }
+
+    private List<String> validate(TaskRequestDTO request, Map<Long, UserDTO> users) {
+        if (request == null) {
+            return List.of("Tarefa não informada");
+        }
+        List<String> messages = new ArrayList<>(validator.validate(request)
+                .stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList());
+        if (request.userId() != null && !users.containsKey(request.userId())) {
+            messages.add("Usuário não encontrado");
+        }
+        return messages;
+    }
+
+    @Override
+    @Transactional
+    public TaskEntity updateTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline,
+                                 Long expectedVersion) {
         TaskEntity task = findById(id);
+        checkVersion(task, expectedVersion);
 
         if (task.getStatus() == TaskStatus.CONCLUIDO) {
             throw new IllegalStateException("Não é possível editar tarefas concluídas");
         }
 
-        try {
-            userClient.findById(task.getUserId());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Usuário não encontrado");
-        }
+        userLookup.findById(task.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("Usuário não encontrado"));
 
+        TaskStatus previous = task.getStatus();
         task.setTitle(title);
         task.setDescription(description);
         task.setStatus(status);
         task.setDeadline(deadline);
 
-        return repository.save(task);
+        // Linha da tarefa antes da linha do contador, na mesma ordem de updateStatus
+        TaskEntity saved = repository.save(task);
+        flush(expectedVersion);
+        counterService.move(task.getUserId(), previous, status);
+        return saved;
+    }
+
+    /**
+     * Altera apenas os campos não nulos da tarefa. O dono não muda, então o user-service não é
+     * consultado; com {@code @DynamicUpdate} o UPDATE grava só as colunas alteradas, e nenhum é
+     * emitido se nada mudou.
+     */
+    @Override
+    @Transactional
+    public TaskEntity patchTask(Long id, String title, String description, TaskStatus status, LocalDateTime deadline,
+                                Long expectedVersion) {
+        TaskEntity task = findById(id);
+        checkVersion(task, expectedVersion);
+
+        if (task.getStatus() == TaskStatus.CONCLUIDO) {
+            throw new IllegalStateException("Não é possível editar tarefas concluídas");
+        }
+
+        TaskStatus previous = task.getStatus();
+        if (title != null) {
+            task.setTitle(title);
+        }
+        if (description != null) {
+            task.setDescription(description);
+        }
+        if (status != null) {
+            task.setStatus(status);
+        }
+        if (deadline != null) {
+            task.setDeadline(deadline);
+        }
+
+        flush(expectedVersion);
+        if (task.getStatus() != previous) {
+            counterService.move(task.getUserId(), previous, task.getStatus());
+        }
+        return task;
     }
 
+    /**
+     * Muda o status das tarefas informadas com UPDATEs em conjunto, em blocos de
+     * {@value #STATUS_UPDATE_CHUNK_SIZE} IDs, sem carregar as entidades nem consultar o user-service.
+     * Tarefas concluídas, inexistentes ou já no status de destino são ignoradas. Em cada bloco as
+     * tarefas afetadas são primeiro bloqueadas em ordem de ID, para saber o status anterior de cada
+     * uma e ajustar os contadores, que são atualizados ao final, em ordem de usuário.
+     *
+     * @return IDs das tarefas alteradas, em ordem crescente
+     */
     @Override
     @Transactional
-    public void deleteTask(Long id) {
+    public List<Long> updateStatus(Collection<Long> ids, TaskStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status é obrigatório");
+        }
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_STATUS_UPDATE_SIZE) {
+            throw new IllegalArgumentException("Informe entre 1 e " + MAX_STATUS_UPDATE_SIZE + " tarefas por lote");
+        }
+
+        List<Long> sorted = ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        List<Long> updated = new ArrayList<>();
+        Map<Long, Map<TaskStatus, Long>> moved = new TreeMap<>();
+        for (int from = 0; from < sorted.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, sorted.size()));
+            List<TaskStatusView> affected = repository.lockForStatusChange(chunk, status);
+            if (affected.isEmpty()) {
+                continue;
+            }
+
+            List<Long> affectedIds = affected.stream().map(TaskStatusView::getId).toList();
+            repository.updateStatus(affectedIds, status);
+            updated.addAll(affectedIds);
+            for (TaskStatusView task : affected) {
+                moved.computeIfAbsent(task.getUserId(), userId -> new EnumMap<>(TaskStatus.class))
+                        .merge(task.getStatus(), 1L, Long::sum);
+            }
+        }
+
+        moved.forEach((userId, counts) -> counts.forEach((previous, count) ->
+                counterService.move(userId, previous, status, count)));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long id, Long expectedVersion) {
         TaskEntity task = findById(id);
+        checkVersion(task, expectedVersion);
         repository.delete(task);
+        flush(expectedVersion);
+        counterService.decrement(task.getUserId(), task.getStatus());
     }
 
     @Override
     public long countTasksByUserId(Long userId) {
-        return repository.countByUserId(userId);
+        return counterService.countByUserId(userId);
+    }
+
+    /**
+     * Contagens por status vêm dos contadores mantidos; vencidas e a vencer, de uma única consulta
+     * agregada sobre as tarefas não concluídas. Nenhuma tarefa é carregada.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatsDTO getStats(Long userId, int dueSoonHours) {
+        if (dueSoonHours < 1 || dueSoonHours > MAX_DUE_SOON_HOURS) {
+            throw new IllegalArgumentException("O prazo de vencimento próximo deve estar entre 1 e "
+                    + MAX_DUE_SOON_HOURS + " horas");
+        }
+
+        Map<TaskStatus, Long> byStatus = counterService.countByStatus(userId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueBefore = now.plusHours(dueSoonHours);
+        DeadlineCountView deadlines = userId == null
+                ? repository.countOpenByDeadline(now, dueBefore)
+                : repository.countOpenByDeadline(userId, now, dueBefore);
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new TaskStatsDTO(userId, byStatus, total, deadlines.getOverdue(), deadlines.getDueSoon(), dueSoonHours);
+    }
+
+    /**
+     * Rejeita a operação se o cliente informou uma versão diferente da atual. Alterações
+     * concorrentes feitas depois desta leitura são detectadas pelo {@code @Version} no UPDATE.
+     */
+    private static void checkVersion(TaskEntity task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(VERSION_CHANGED);
+        }
+    }
+
+    /**
+     * Envia as alterações ao banco. Se o {@code @Version} acusar uma alteração concorrente, a
+     * requisição com versão esperada falha na pré-condição; sem ela, o conflito segue adiante.
+     */
+    private void flush(Long expectedVersion) {
+        try {
+            repository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException(VERSION_CHANGED, e);
+            }
+            throw e;
+        }
     }
 
 }
@@ -0,0 +1,68 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.client.UserBatchLoader;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.service.IUserLookupService;
+import com.andersonsilva.taskservice.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class UserLookupServiceImpl implements IUserLookupService {
+
+    private final UserBatchLoader userLoader;
+    private final KnownUserRepository knownUserRepository;
+
+    @Autowired
+    public UserLookupServiceImpl(UserBatchLoader userLoader, KnownUserRepository knownUserRepository) {
+        this.userLoader = userLoader;
+        this.knownUserRepository = knownUserRepository;
+    }
+
+    /**
+     * Procura primeiro na projeção local replicada dos eventos do user-service e só consulta
+     * o serviço remoto quando o usuário ainda não foi replicado; consultas remotas concorrentes são
+     * agrupadas em uma única chamada pelo {@link UserBatchLoader}. O resultado fica no cache local;
+     * um 404 também é armazenado (como {@link Optional#empty()}), com validade menor.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_CACHE, key = "#userId")
+    public Optional<UserDTO> findById(Long userId) {
+        Optional<UserDTO> known = knownUserRepository.findById(userId)
+                .map(user -> new UserDTO(user.getId(), user.getName(), user.getEmail()));
+        if (known.isPresent()) {
+            return known;
+        }
+
+        return userLoader.load(userId);
+    }
+
+    /**
+     * Versão em lote de {@link #findById(Long)}: uma única consulta à projeção local e, para os
+     * usuários que ainda não foram replicados, chamadas em lote ao user-service. Não usa o cache.
+     * Usuários inexistentes ficam fora do mapa.
+     */
+    @Override
+    public Map<Long, UserDTO> findAllById(Collection<Long> userIds) {
+        Map<Long, UserDTO> found = new HashMap<>();
+        knownUserRepository.findAllById(userIds)
+                .forEach(user -> found.put(user.getId(), new UserDTO(user.getId(), user.getName(), user.getEmail())));
+
+        Set<Long> missing = new HashSet<>(userIds);
+        missing.removeAll(found.keySet());
+        if (!missing.isEmpty()) {
+            found.putAll(userLoader.loadAll(missing));
+        }
+        return found;
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.ReplicationOffsetRepository;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.dto.UserEventDTO;
+import com.andersonsilva.taskservice.application.dto.UserEventType;
+import com.andersonsilva.taskservice.application.service.IUserReplicationService;
+import com.andersonsilva.taskservice.config.CacheConfig;
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import com.andersonsilva.taskservice.domain.ReplicationOffsetEntity;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class UserReplicationServiceImpl implements IUserReplicationService {
+
+    public static final String USER_EVENTS_STREAM = "user-events";
+
+    private final UserClient userClient;
+    private final KnownUserRepository knownUserRepository;
+    private final ReplicationOffsetRepository offsetRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public UserReplicationServiceImpl(UserClient userClient,
+                                      KnownUserRepository knownUserRepository,
+                                      ReplicationOffsetRepository offsetRepository,
+                                      CacheManager cacheManager,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${users.replication.batch-size:500}") int batchSize) {
+        this.userClient = userClient;
+        this.knownUserRepository = knownUserRepository;
+        this.offsetRepository = offsetRepository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Busca os eventos posteriores ao último processado e os aplica na projeção local,
+     * em lotes, até esgotar o feed. Cada lote é aplicado junto com o avanço do offset
+     * em uma única transação; a chamada remota fica fora dela.
+     * <p>
+     * Se o user-service já expurgou eventos posteriores ao offset (410), a projeção é
+     * reconstruída a partir da listagem de usuários e o feed retomado do evento mais
+     * antigo retido; um segundo 410 na mesma execução é propagado.
+     */
+    @Override
+    public int replicatePendingEvents() {
+        int total = 0;
+        boolean resynchronized = false;
+        while (true) {
+            long lastPosition = offsetRepository.findById(USER_EVENTS_STREAM)
+                    .map(ReplicationOffsetEntity::getLastPosition)
+                    .orElse(0L);
+            List<UserEventDTO> events;
+            try {
+                events = userClient.findEvents(lastPosition, batchSize);
+            } catch (FeignException.Gone e) {
+                if (resynchronized) {
+                    throw e;
+                }
+                total += resynchronize(lastPosition, oldestEventPosition(e));
+                resynchronized = true;
+                continue;
+            }
+            if (events == null || events.isEmpty()) {
+                return total;
+            }
+            applyBatch(events);
+            total += events.size();
+            if (events.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private void applyBatch(List<UserEventDTO> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (UserEventDTO event : events) {
+                if (event.type() == UserEventType.DELETED) {
+                    knownUserRepository.deleteById(event.userId());
+                } else {
+                    knownUserRepository.save(KnownUserEntity.builder()
+                            .id(event.userId())
+                            .name(event.name())
+                            .email(event.email())
+                            .build());
+                }
+            }
+            offsetRepository.save(new ReplicationOffsetEntity(USER_EVENTS_STREAM, events.get(events.size() - 1).position()));
+        });
+
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        if (users != null) {
+            events.forEach(event -> users.evict(event.userId()));
+        }
+    }
+
+    /**
+     * Copia todos os usuários atuais para a projeção, página a página, remove os que não
+     * existem mais e recua o offset para antes do evento mais antigo retido. Os eventos
+     * retidos são reaplicados em seguida; por estarem em ordem, a projeção converge para o
+     * estado mais recente mesmo que a listagem tenha visto alterações concorrentes.
+     */
+    private int resynchronize(long lastPosition, long oldestPosition) {
+        log.warn("Eventos de usuário após a posição {} já foram expurgados (mais antigo retido: {}); "
+                + "reconstruindo known_users a partir da listagem de usuários", lastPosition, oldestPosition);
+
+        Set<Long> current = new HashSet<>();
+        String cursor = null;
+        do {
+            ResponseEntity<List<UserDTO>> page = userClient.findPage(UserClient.SORT_BY_CREATED_AT, cursor,
+                    UserClient.MAX_PAGE_SIZE);
+            List<UserDTO> users = page.getBody() == null ? List.of() : page.getBody();
+            transactionTemplate.executeWithoutResult(status -> users.forEach(user ->
+                    knownUserRepository.save(KnownUserEntity.builder()
+                            .id(user.id())
+                            .name(user.name())
+                            .email(user.email())
+                            .build())));
+            users.forEach(user -> current.add(user.id()));
+            cursor = page.getHeaders().getFirst(UserClient.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> removed = knownUserRepository.findAllIds().stream()
+                    .filter(id -> !current.contains(id))
+                    .toList();
+            knownUserRepository.deleteAllByIdInBatch(removed);
+            offsetRepository.save(new ReplicationOffsetEntity(USER_EVENTS_STREAM, oldestPosition - 1));
+        });
+
+        Cache users = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        if (users != null) {
+            users.clear();
+        }
+        return current.size();
+    }
+
+    private static long oldestEventPosition(FeignException.Gone e) {
+        return e.responseHeaders().entrySet().stream()
+                .filter(header -> UserClient.OLDEST_EVENT_POSITION_HEADER.equalsIgnoreCase(header.getKey()))
+                .flatMap(header -> header.getValue().stream())
+                .findFirst()
+                .map(Long::parseLong)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Resposta 410 do feed de eventos sem o cabeçalho " + UserClient.OLDEST_EVENT_POSITION_HEADER, e));
+    }
+
+}
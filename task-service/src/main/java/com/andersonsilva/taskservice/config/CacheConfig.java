@@ -0,0 +1,59 @@
+package com.andersonsilva.taskservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${users.cache.max-size:10000}") long maxSize,
+            @Value("${users.cache.ttl:10m}") Duration ttl,
+            @Value("${users.cache.negative-ttl:30s}") Duration negativeTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(USERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveNegativeExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    /**
+     * Usuários inexistentes (armazenados como {@link NullValue}) expiram antes dos encontrados,
+     * para que um usuário recém-criado passe a ser aceito rapidamente.
+     */
+    private record PositiveNegativeExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return (value instanceof NullValue ? negativeTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.andersonsilva.taskservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cópia local, somente leitura, dos usuários do user-service. Mantida pelos eventos
+ * de ciclo de vida publicados por ele; não deve ser alterada por outros fluxos.
+ */
+@Entity
+@Table(name = "known_users")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KnownUserEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String email;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime replicatedAt;
+
+}
@@ -0,0 +1,22 @@
+package com.andersonsilva.taskservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "replication_offsets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplicationOffsetEntity {
+
+    @Id
+    private String stream;
+
+    /** Posição ({@code position}) do último evento aplicado do stream. */
+    @Column(nullable = false)
+    private Long lastPosition;
+
+}
@@ -0,0 +1,30 @@
+package com.andersonsilva.taskservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Quantidade de tarefas por usuário e status, mantida na mesma transação das escritas em tasks
+ * para que a contagem por usuário não precise varrer a tabela de tarefas.
+ */
+@Entity
+@Table(name = "task_counters")
+@IdClass(TaskCounterId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCounterEntity {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+}
@@ -0,0 +1,18 @@
+package com.andersonsilva.taskservice.domain;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskCounterId implements Serializable {
+
+    private Long userId;
+
+    private TaskStatus status;
+
+}
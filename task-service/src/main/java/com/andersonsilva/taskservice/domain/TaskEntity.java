@@ -1,13 +1,21 @@
 package com.andersonsilva.taskservice.domain;
 
+import com.andersonsilva.shared.persistence.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_user_id_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_user_id_status_created_at", columnList = "user_id, status, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +24,7 @@ import java.time.LocalDateTime;
 public class TaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "tasks_seq")
     private Long id;
 
     private String title;
@@ -36,4 +44,8 @@ public class TaskEntity {
     @Column(nullable = false)
     private Long userId;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,34 @@
+-- Mantém o incremento de tasks_seq igual ao tamanho de bloco do PooledSequenceGenerator
+-- (ID_ALLOCATION_SIZE). Reaplicada pelo Flyway sempre que o valor muda.
+--
+-- O Hibernate usa o bloco (valor - tamanho, valor] de cada nextval com o tamanho da instância.
+-- Aumentar o incremento é seguro com instâncias antigas no ar: o próximo bloco começa depois do
+-- último valor entregue. Diminuir não é: uma instância antiga, ainda com o tamanho maior,
+-- recuaria sobre blocos já entregues às novas e geraria IDs repetidos. Por isso a redução é
+-- recusada aqui; para reduzir, pare todas as instâncias, rode o ALTER SEQUENCE manualmente e
+-- suba todas já com o novo ID_ALLOCATION_SIZE.
+DO $$
+DECLARE
+    target            BIGINT := ${id_allocation_size};
+    current_increment BIGINT;
+    last_delivered    BIGINT;
+BEGIN
+    SELECT increment_by, last_value INTO current_increment, last_delivered
+    FROM pg_sequences
+    WHERE schemaname = current_schema() AND sequencename = 'tasks_seq';
+
+    IF last_delivered IS NULL THEN
+        -- Sequência ainda não usada: nenhum bloco foi entregue, então o incremento pode mudar
+        -- nos dois sentidos. O início é refeito para que o primeiro bloco, com o novo tamanho,
+        -- fique inteiro depois do maior ID já existente.
+        EXECUTE format('ALTER SEQUENCE tasks_seq INCREMENT BY %s', target);
+        PERFORM setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + target, false);
+    ELSIF target > current_increment THEN
+        EXECUTE format('ALTER SEQUENCE tasks_seq INCREMENT BY %s', target);
+    ELSIF target < current_increment THEN
+        RAISE EXCEPTION 'ID_ALLOCATION_SIZE (%) menor que o incremento atual de tasks_seq (%). Com instâncias '
+            'antigas no ar isso gera IDs repetidos: pare todas as instâncias, execute '
+            '"ALTER SEQUENCE tasks_seq INCREMENT BY %" e suba todas com o novo valor', target, current_increment, target;
+    END IF;
+END
+$$;
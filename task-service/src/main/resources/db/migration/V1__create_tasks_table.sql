@@ -0,0 +1,12 @@
+-- Esquema inicial, equivalente ao que o Hibernate criava com ddl-auto: update.
+-- Em bancos já existentes a tabela é mantida como está.
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at  TIMESTAMP(6) NOT NULL,
+    deadline    TIMESTAMP(6),
+    description VARCHAR(255),
+    status      VARCHAR(255) NOT NULL CHECK (status IN ('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDO')),
+    title       VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
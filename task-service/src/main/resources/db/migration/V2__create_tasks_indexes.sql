@@ -0,0 +1,12 @@
+-- Índices dos caminhos de acesso de TaskRepository.findTasks e countByUserId.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_created_at
+    ON tasks (created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_created_at
+    ON tasks (status, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_id_created_at
+    ON tasks (user_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_id_status_created_at
+    ON tasks (user_id, status, created_at, id);
@@ -0,0 +1,14 @@
+-- Projeção local dos usuários, alimentada pelos eventos do user-service.
+CREATE TABLE IF NOT EXISTS known_users (
+    id            BIGINT       NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    replicated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS replication_offsets (
+    stream        VARCHAR(255) NOT NULL,
+    last_event_id BIGINT       NOT NULL,
+    PRIMARY KEY (stream)
+);
@@ -0,0 +1,14 @@
+-- Contadores de tarefas por usuário e status, carregados a partir das tarefas existentes.
+-- Divergências geradas por escritas durante a migração são corrigidas pela reconciliação.
+CREATE TABLE IF NOT EXISTS task_counters (
+    user_id    BIGINT       NOT NULL,
+    status     VARCHAR(255) NOT NULL CHECK (status IN ('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDO')),
+    task_count BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
+
+INSERT INTO task_counters (user_id, status, task_count)
+SELECT user_id, status, COUNT(*)
+FROM tasks
+GROUP BY user_id, status
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,8 @@
+-- IDs das tarefas passam a vir de uma sequência com incremento 50, reservados em blocos pelo
+-- Hibernate (otimizador pooled), o que permite agrupar os INSERTs em lotes JDBC.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+
+-- O primeiro bloco começa logo após o maior ID já existente.
+SELECT setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 50, false);
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,2 @@
+-- Versão usada pelo controle de concorrência otimista (@Version) e como ETag da tarefa.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
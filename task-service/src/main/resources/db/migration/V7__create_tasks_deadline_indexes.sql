@@ -0,0 +1,12 @@
+-- Índices parciais da contagem de tarefas vencidas e a vencer (GET /api/tasks/stats), que só
+-- considera tarefas não concluídas. Existem apenas no PostgreSQL: o @Index do TaskEntity não
+-- aceita predicado, então o esquema H2 dos testes não os tem e o uso deles é verificado pelo
+-- PostgresMigrationIntegrationTest. Sem IF NOT EXISTS: se um CREATE INDEX CONCURRENTLY falhar e
+-- deixar o índice inválido, remova-o antes de repetir a migração.
+CREATE INDEX CONCURRENTLY idx_tasks_open_deadline
+    ON tasks (deadline)
+    WHERE status <> 'CONCLUIDO';
+
+CREATE INDEX CONCURRENTLY idx_tasks_user_id_open_deadline
+    ON tasks (user_id, deadline)
+    WHERE status <> 'CONCLUIDO';
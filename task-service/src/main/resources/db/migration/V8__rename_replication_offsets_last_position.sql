@@ -0,0 +1,2 @@
+-- O offset guarda a posição do evento no feed do user-service, não o ID do evento.
+ALTER TABLE replication_offsets RENAME COLUMN last_event_id TO last_position;
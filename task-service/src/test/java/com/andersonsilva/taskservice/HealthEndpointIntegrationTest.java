@@ -0,0 +1,67 @@
+package com.andersonsilva.taskservice;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HealthEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @AfterEach
+    void closeCircuit() {
+        circuitBreakerRegistry.circuitBreaker("user-service").reset();
+    }
+
+    @Test
+    @DisplayName("Liveness depende apenas do estado da aplicação")
+    void livenessReportsOnlyApplicationState() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Readiness verifica o banco e o circuito do user-service")
+    void readinessChecksDatabaseAndCircuitBreaker() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.db.status").value("UP"))
+                .andExpect(jsonPath("$.components.circuitBreakers.status").value("UP"))
+                .andExpect(jsonPath("$.components.readinessState.status").value("UP"));
+    }
+
+    @Test
+    @DisplayName("Circuito aberto para o user-service degrada a readiness sem tirar o serviço de operação")
+    void openCircuitDegradesReadinessWithoutFailingIt() throws Exception {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("user-service");
+        circuitBreaker.transitionToOpenState();
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CIRCUIT_OPEN"))
+                .andExpect(jsonPath("$.components.circuitBreakers.status").value("CIRCUIT_OPEN"))
+                .andExpect(jsonPath("$.components.db.status").value("UP"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.andersonsilva.taskservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.cloud.openfeign.client.config.user-service.url=http://localhost:1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Expõe histogramas de endpoints e consultas e as falhas de chamadas ao user-service no formato Prometheus")
+    void exposesRequestRepositoryAndClientMetrics() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("userId", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "title": "Tarefa sem usuário disponível"}
+                                """))
+                .andExpect(status().isServiceUnavailable());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        matchesPattern("(?s).*http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/tasks\".*"),
+                        matchesPattern("(?s).*spring_data_repository_invocations_seconds_bucket\\{[^}]*"
+                                + "method=\"findTasks\"[^}]*repository=\"TaskRepository\".*"),
+                        matchesPattern("(?s).*feign_Client_exception_seconds_bucket\\{[^}]*client=\"[^\"]*UserClient\".*"),
+                        matchesPattern("(?s).*feign_Feign_http_error_total\\{[^}]*client=\"[^\"]*UserClient\"[^}]*"
+                                + "method=\"findById\"[^}]*root_cause_name=\"ConnectException\".*"),
+                        containsString("application=\"task-service\""))));
+    }
+
+}
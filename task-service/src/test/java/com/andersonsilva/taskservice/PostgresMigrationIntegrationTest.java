@@ -0,0 +1,257 @@
+package com.andersonsilva.taskservice;
+
+import com.andersonsilva.shared.test.PostgresTestDatabase;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.CapturingStatementInspector;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Aplica as migrações do Flyway no PostgreSQL sobre um banco no formato deixado pelo
+ * {@code ddl-auto: update} anterior a elas, e sobe a aplicação validando o esquema resultante.
+ * Cobre também a sequência de IDs (V5), os ajustes de incremento da {@code R__sequence_increments} e
+ * o uso dos índices da V2 e os índices parciais da V7, que o esquema H2 dos demais testes não tem.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.andersonsilva.taskservice.adapter.outbound.persistence.CapturingStatementInspector")
+@ActiveProfiles("test")
+@EnabledIf("com.andersonsilva.shared.test.PostgresTestDatabase#isAvailable")
+class PostgresMigrationIntegrationTest {
+
+    /**
+     * DDL gerada pelo Hibernate com {@code ddl-auto: update} para a entidade original, com IDs
+     * por identidade e três tarefas.
+     */
+    private static final String[] LEGACY_SCHEMA = {
+            """
+            create table tasks (
+                id bigint generated by default as identity,
+                created_at timestamp(6) not null,
+                deadline timestamp(6),
+                description varchar(255),
+                status varchar(255) not null check (status in ('PENDENTE','EM_ANDAMENTO','CONCLUIDO')),
+                title varchar(255),
+                user_id bigint not null,
+                primary key (id)
+            )
+            """,
+            """
+            insert into tasks (created_at, status, title, user_id) values
+                (now(), 'PENDENTE', 'Tarefa 1', 1),
+                (now(), 'EM_ANDAMENTO', 'Tarefa 2', 1),
+                (now(), 'CONCLUIDO', 'Tarefa 3', 2)
+            """
+    };
+
+    private static final long LEGACY_MAX_ID = 3;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        legacyDatabase().register(registry);
+    }
+
+    private static PostgresTestDatabase legacyDatabase() {
+        PostgresTestDatabase database = PostgresTestDatabase.create();
+        database.execute(LEGACY_SCHEMA);
+        return database;
+    }
+
+    @Test
+    @DisplayName("Aplica todas as migrações sobre o esquema legado")
+    void appliesAllMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT COALESCE(version, description) FROM flyway_schema_history WHERE success AND version <> '0' "
+                        + "OR version IS NULL ORDER BY installed_rank", String.class);
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8", "sequence increments"), versions);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Índices parciais de prazo da V7 são válidos")
+    void deadlineIndexesAreValid() {
+        List<String> valid = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname IN ('idx_tasks_open_deadline', 'idx_tasks_user_id_open_deadline')
+                  AND i.indisvalid
+                ORDER BY c.relname
+                """, String.class);
+
+        assertEquals(List.of("idx_tasks_open_deadline", "idx_tasks_user_id_open_deadline"), valid);
+    }
+
+    @Test
+    @DisplayName("Contagem de tarefas vencidas usa o índice parcial de prazo")
+    void countOpenByDeadlineUsesPartialIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.countOpenByDeadline(now, now.plusHours(24));
+
+        assertTrue(explainLastQuery(now, now, now.plusHours(24)).contains("idx_tasks_open_deadline"));
+    }
+
+    @Test
+    @DisplayName("Contagem de tarefas vencidas de um usuário usa o índice parcial de usuário e prazo")
+    void countOpenByDeadlineForUserUsesPartialIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.countOpenByDeadline(1L, now, now.plusHours(24));
+
+        assertTrue(explainLastQuery(now, now, 1L, now.plusHours(24)).contains("idx_tasks_user_id_open_deadline"));
+    }
+
+    @Test
+    @DisplayName("Listagem por usuário e status usa o índice composto da V2")
+    void findTasksByUserAndStatusUsesCompositeIndex() {
+        repository.findTasks(TaskStatus.PENDENTE, 1L, Limit.of(51));
+
+        assertTrue(explainLastQuery(1L, TaskStatus.PENDENTE.name(), 51)
+                .contains("idx_tasks_user_id_status_created_at"));
+    }
+
+    @Test
+    @DisplayName("Listagem por status usa o índice de status e data da V2")
+    void findTasksByStatusUsesStatusIndex() {
+        repository.findTasks(TaskStatus.CONCLUIDO, null, Limit.of(51));
+
+        assertTrue(explainLastQuery(TaskStatus.CONCLUIDO.name(), 51).contains("idx_tasks_status_created_at"));
+    }
+
+    /**
+     * EXPLAIN do último SQL gerado pelo repositório, com os parâmetros na ordem do SQL e a varredura sequencial desligada: com poucas
+     * linhas ela sempre seria a mais barata, e o que se verifica é que o predicado da consulta casa
+     * com o do índice parcial.
+     */
+    private String explainLastQuery(Object... parameters) {
+        String sql = CapturingStatementInspector.lastSql();
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement settings = connection.createStatement()) {
+                settings.execute("SET enable_seqscan = off");
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i] instanceof LocalDateTime time
+                                ? Timestamp.valueOf(time) : parameters[i]);
+                    }
+                    StringBuilder plan = new StringBuilder();
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            plan.append(rs.getString(1)).append('\n');
+                        }
+                    }
+                    return plan.toString();
+                } finally {
+                    settings.execute("RESET enable_seqscan");
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Novas tarefas recebem IDs da sequência depois dos já existentes")
+    void newIdsFollowExistingRows() {
+        TaskEntity task = repository.saveAndFlush(
+                TaskEntity.builder().title("Nova").userId(1L).status(TaskStatus.PENDENTE).build());
+
+        assertTrue(task.getId() > LEGACY_MAX_ID);
+        assertEquals(50L, jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'tasks_seq'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Com bloco maior que o da V5 na primeira migração, o primeiro bloco começa depois das tarefas existentes")
+    void firstBlockStartsAfterExistingRowsWithLargerAllocationSize() throws SQLException {
+        PostgresTestDatabase database = legacyDatabase();
+        database.flyway(200).migrate();
+
+        assertEquals(200L, sequence(database, "increment_by"));
+        assertTrue(nextval(database) - 200 >= LEGACY_MAX_ID);
+    }
+
+    @Test
+    @DisplayName("Aumenta o incremento de uma sequência em uso quando o tamanho do bloco cresce")
+    void raisesIncrementOfUsedSequence() throws SQLException {
+        PostgresTestDatabase database = legacyDatabase();
+        database.flyway(50).migrate();
+        long delivered = nextval(database);
+
+        database.flyway(100).migrate();
+
+        assertEquals(100L, sequence(database, "increment_by"));
+        assertEquals(delivered + 100, nextval(database));
+    }
+
+    @Test
+    @DisplayName("Recusa reduzir o incremento de uma sequência em uso")
+    void refusesToLowerIncrementOfUsedSequence() throws SQLException {
+        PostgresTestDatabase database = legacyDatabase();
+        database.flyway(50).migrate();
+        nextval(database);
+
+        var refused = assertThrows(FlywayException.class, () -> database.flyway(20).migrate());
+
+        assertTrue(refused.getMessage().contains("ALTER SEQUENCE tasks_seq INCREMENT BY 20"));
+        assertEquals(50L, sequence(database, "increment_by"));
+    }
+
+    @Test
+    @DisplayName("Reduz o incremento de uma sequência que ainda não entregou IDs")
+    void lowersIncrementOfUnusedSequence() throws SQLException {
+        PostgresTestDatabase database = legacyDatabase();
+        database.flyway(50).migrate();
+
+        database.flyway(20).migrate();
+
+        assertEquals(20L, sequence(database, "increment_by"));
+        assertEquals(LEGACY_MAX_ID + 20, nextval(database));
+    }
+
+    private static long nextval(PostgresTestDatabase database) throws SQLException {
+        return query(database, "SELECT nextval('tasks_seq')");
+    }
+
+    private static long sequence(PostgresTestDatabase database, String column) throws SQLException {
+        return query(database, "SELECT " + column + " FROM pg_sequences WHERE sequencename = 'tasks_seq'");
+    }
+
+    private static long query(PostgresTestDatabase database, String sql) throws SQLException {
+        try (Connection connection = database.connect();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+}
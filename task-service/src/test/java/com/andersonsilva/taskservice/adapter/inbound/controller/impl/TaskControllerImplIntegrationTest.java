@@ -1,27 +1,43 @@
 package com.andersonsilva.taskservice.adapter.inbound.controller.impl;
 
 import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskCounterRepository;
 import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
 import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.config.CacheConfig;
+import com.andersonsilva.taskservice.domain.TaskCounterEntity;
+import com.andersonsilva.taskservice.domain.TaskCounterId;
 import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
+import feign.FeignException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,12 +52,20 @@ class TaskControllerImplIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskCounterRepository taskCounterRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @MockitoBean
     private UserClient userClient;
 
     @BeforeEach
     void setUp() {
         taskRepository.deleteAll();
+        taskCounterRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
         when(userClient.findById(any())).thenReturn(new UserDTO(1L, "Test User", "test@example.com"));
     }
 
@@ -69,6 +93,70 @@ class TaskControllerImplIntegrationTest {
                 .andExpect(jsonPath("$.createdAt").exists());
     }
 
+    @Test
+    @DisplayName("Deve consultar o user-service uma única vez para criações do mesmo usuário")
+    void shouldCacheUserLookupAcrossTaskCreations() throws Exception {
+        var request = """
+                {
+                    "userId": 1,
+                    "title": "Tarefa com cache"
+                }
+                """;
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isCreated());
+        }
+
+        verify(userClient, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve criar tarefas em lote, informando os itens rejeitados e mantendo a contagem por usuário")
+    void shouldCreateTasksInBulk() throws Exception {
+        when(userClient.findAllById(any())).thenReturn(List.of(new UserDTO(5L, "Bulk User", "bulk@example.com")));
+
+        var request = """
+                [
+                    {"userId": 5, "title": "Importada 1"},
+                    {"userId": 5, "title": ""},
+                    {"userId": 99, "title": "Usuário inexistente"},
+                    {"userId": 5, "title": "Importada 2", "deadline": "%s"}
+                ]
+                """.formatted(LocalDateTime.now().plusDays(1));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created.length()").value(2))
+                .andExpect(jsonPath("$.created[0].title").value("Importada 1"))
+                .andExpect(jsonPath("$.created[0].id").exists())
+                .andExpect(jsonPath("$.created[1].title").value("Importada 2"))
+                .andExpect(jsonPath("$.created[1].status").value(TaskStatus.PENDENTE.name()))
+                .andExpect(jsonPath("$.errors.length()").value(2))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value("title: Título é obrigatório"))
+                .andExpect(jsonPath("$.errors[1].index").value(2))
+                .andExpect(jsonPath("$.errors[1].messages[0]").value("Usuário não encontrado"));
+
+        verify(userClient, times(1)).findAllById(any());
+        mockMvc.perform(get("/api/tasks/count/by-user/{userId}", 5))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio")
+    void shouldRejectEmptyBulk() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Deve listar todas as tarefas")
     void shouldListAllTasks() throws Exception {
@@ -95,6 +183,67 @@ class TaskControllerImplIntegrationTest {
                 .andExpect(jsonPath("$[0].title").value("Tarefa 2"));
     }
 
+    @Test
+    @DisplayName("Deve paginar tarefas com cursor e cabeçalho Link")
+    void shouldPaginateTasksWithCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            taskRepository.save(TaskEntity.builder()
+                    .title("Tarefa " + i)
+                    .userId(1L)
+                    .status(TaskStatus.PENDENTE)
+                    .build());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Tarefa 3"))
+                .andExpect(header().exists("Link"))
+                .andExpect(header().exists(TaskControllerImpl.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        String cursor = firstPage.getResponse().getHeader(TaskControllerImpl.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/api/tasks").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Tarefa 1"))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("cursor", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas em NDJSON filtrando por usuário")
+    void shouldExportTasksAsNdjson() throws Exception {
+        taskRepository.saveAll(List.of(
+                TaskEntity.builder().title("Exportar 1").userId(7L).status(TaskStatus.PENDENTE).build(),
+                TaskEntity.builder().title("Exportar 2").userId(7L).status(TaskStatus.CONCLUIDO).build(),
+                TaskEntity.builder().title("Outro usuário").userId(8L).status(TaskStatus.PENDENTE).build()
+        ));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export").param("userId", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"title\":\"Exportar 2\""));
+        assertTrue(lines.get(1).contains("\"title\":\"Exportar 1\""));
+    }
+
     @Test
     @DisplayName("Deve buscar tarefa por ID")
     void shouldFindTaskById() throws Exception {
@@ -150,6 +299,107 @@ class TaskControllerImplIntegrationTest {
                 .andExpect(jsonPath("$.status").value(TaskStatus.PENDENTE.name()));
     }
 
+    @Test
+    @DisplayName("Deve atualizar parcialmente a tarefa sem consultar o user-service")
+    void shouldPatchTaskWithoutCallingUserService() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "userId": 1,
+                                    "title": "Revisar PR",
+                                    "description": "Revisar alterações do módulo de tarefas"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = com.jayway.jsonpath.JsonPath.read(created.getResponse().getContentAsString(), "$.id").toString();
+        cacheManager.getCache(CacheConfig.USERS_CACHE).clear();
+
+        mockMvc.perform(patch("/api/tasks/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"status": "EM_ANDAMENTO"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Revisar PR"))
+                .andExpect(jsonPath("$.description").value("Revisar alterações do módulo de tarefas"))
+                .andExpect(jsonPath("$.status").value(TaskStatus.EM_ANDAMENTO.name()));
+
+        verify(userClient, times(1)).findById(1L);
+        assertEquals(0L, counter(1L, TaskStatus.PENDENTE));
+        assertEquals(1L, counter(1L, TaskStatus.EM_ANDAMENTO));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização parcial com título em branco")
+    void shouldRejectPatchWithBlankTitle() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "  "}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando If-None-Match corresponde à ETag da tarefa")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        var savedTask = taskRepository.save(TaskEntity.builder()
+                .title("Tarefa com ETag")
+                .userId(1L)
+                .status(TaskStatus.PENDENTE)
+                .build());
+
+        mockMvc.perform(get("/api/tasks/{id}", savedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/tasks/{id}", savedTask.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar If-Match na atualização e na exclusão, retornando 412 para ETag desatualizada")
+    void shouldHonorIfMatchOnUpdateAndDelete() throws Exception {
+        var savedTask = taskRepository.save(TaskEntity.builder()
+                .title("Tarefa com ETag")
+                .userId(1L)
+                .status(TaskStatus.PENDENTE)
+                .build());
+
+        mockMvc.perform(patch("/api/tasks/{id}", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Tarefa alterada"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put("/api/tasks/{id}", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "userId": 1,
+                                    "title": "Sobrescreveria a alteração"
+                                }
+                                """))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.messages[0]").value("A tarefa foi alterada por outra requisição"));
+
+        mockMvc.perform(delete("/api/tasks/{id}", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/tasks/{id}", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     @DisplayName("Deve retornar 404 ao tentar atualizar tarefa inexistente")
     void shouldReturn404WhenUpdatingNonExistentTask() throws Exception {
@@ -193,4 +443,192 @@ class TaskControllerImplIntegrationTest {
         mockMvc.perform(delete("/api/tasks/999"))
                 .andExpect(status().isNotFound());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve manter a contagem de tarefas por usuário em criações e exclusões")
+    void shouldKeepTaskCountByUserInSync() throws Exception {
+        var request = """
+                {
+                    "userId": 3,
+                    "title": "Contar tarefas"
+                }
+                """;
+
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andReturn();
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks/count/by-user/{userId}", 3))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(2));
+
+        String id = com.jayway.jsonpath.JsonPath.read(created.getResponse().getContentAsString(), "$.id").toString();
+        mockMvc.perform(delete("/api/tasks/{id}", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/count/by-user/{userId}", 3))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(1));
+    }
+
+    @Test
+    @DisplayName("Deve alterar o status em lote ignorando tarefas concluídas e mantendo os contadores")
+    void shouldUpdateStatusInBulk() throws Exception {
+        var request = """
+                {
+                    "userId": 1,
+                    "title": "Tarefa em lote"
+                }
+                """;
+        String[] ids = new String[3];
+        for (int i = 0; i < ids.length; i++) {
+            MvcResult created = mockMvc.perform(post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids[i] = com.jayway.jsonpath.JsonPath.read(created.getResponse().getContentAsString(), "$.id").toString();
+        }
+        mockMvc.perform(put("/api/tasks/{id}", ids[2])
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "userId": 1,
+                                    "title": "Tarefa em lote",
+                                    "status": "CONCLUIDO"
+                                }
+                                """))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"ids": [%s, %s, %s, 999999], "status": "EM_ANDAMENTO"}
+                                """.formatted(ids[0], ids[1], ids[2])))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value(Long.parseLong(ids[0])))
+                .andExpect(jsonPath("$[1]").value(Long.parseLong(ids[1])));
+
+        mockMvc.perform(get("/api/tasks/{id}", ids[1]))
+                .andExpect(jsonPath("$.status").value(TaskStatus.EM_ANDAMENTO.name()));
+        mockMvc.perform(get("/api/tasks/{id}", ids[2]))
+                .andExpect(jsonPath("$.status").value(TaskStatus.CONCLUIDO.name()));
+        assertEquals(0L, counter(1L, TaskStatus.PENDENTE));
+        assertEquals(2L, counter(1L, TaskStatus.EM_ANDAMENTO));
+        assertEquals(1L, counter(1L, TaskStatus.CONCLUIDO));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar alteração de status em lote sem status")
+    void shouldRejectBulkStatusUpdateWithoutStatus() throws Exception {
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"ids": [1]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.messages[0]").value("status: Status é obrigatório"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar estatísticas globais e por usuário com tarefas vencidas e a vencer")
+    void shouldReturnTaskStats() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        createTask(1L, TaskStatus.PENDENTE, now.minusDays(1));
+        createTask(1L, TaskStatus.EM_ANDAMENTO, now.plusHours(2));
+        createTask(1L, TaskStatus.PENDENTE, now.plusDays(5));
+        createTask(1L, TaskStatus.CONCLUIDO, now.minusDays(2));
+        createTask(2L, TaskStatus.PENDENTE, now.minusHours(3));
+        createTask(2L, TaskStatus.PENDENTE, null);
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").doesNotExist())
+                .andExpect(jsonPath("$.byStatus.PENDENTE").value(4))
+                .andExpect(jsonPath("$.byStatus.EM_ANDAMENTO").value(1))
+                .andExpect(jsonPath("$.byStatus.CONCLUIDO").value(1))
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.overdue").value(2))
+                .andExpect(jsonPath("$.dueSoon").value(1))
+                .andExpect(jsonPath("$.dueSoonHours").value(24));
+
+        mockMvc.perform(get("/api/tasks/stats")
+                        .param("userId", "1")
+                        .param("dueSoonHours", "168"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.byStatus.PENDENTE").value(2))
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueSoon").value(2));
+
+        mockMvc.perform(get("/api/tasks/stats").param("userId", "99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus.PENDENTE").value(0))
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.overdue").value(0));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar estatísticas com janela de vencimento fora do limite")
+    void shouldRejectStatsWithInvalidDueSoonHours() throws Exception {
+        mockMvc.perform(get("/api/tasks/stats").param("dueSoonHours", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando o user-service estiver indisponível")
+    void shouldReturnServiceUnavailableWhenUserServiceFails() throws Exception {
+        when(userClient.findById(any())).thenThrow(mock(FeignException.ServiceUnavailable.class));
+
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "userId": 4,
+                                    "title": "Tarefa sem user-service"
+                                }
+                                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.messages[0]").value("Serviço de usuários indisponível. Tente novamente em instantes"));
+
+        assertEquals(0, taskRepository.count());
+    }
+
+    private void createTask(Long userId, TaskStatus status, LocalDateTime deadline) throws Exception {
+        var request = """
+                {
+                    "userId": %d,
+                    "title": "Tarefa para estatísticas",
+                    "deadline": %s
+                }
+                """.formatted(userId, deadline == null ? "null" : "\"" + deadline + "\"");
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andReturn();
+        if (status != TaskStatus.PENDENTE) {
+            String id = com.jayway.jsonpath.JsonPath.read(created.getResponse().getContentAsString(), "$.id").toString();
+            mockMvc.perform(patch("/api/tasks/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"status": "%s"}
+                                    """.formatted(status)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private long counter(Long userId, TaskStatus status) {
+        return taskCounterRepository.findById(new TaskCounterId(userId, status))
+                .map(TaskCounterEntity::getTaskCount)
+                .orElse(0L);
+    }
+}
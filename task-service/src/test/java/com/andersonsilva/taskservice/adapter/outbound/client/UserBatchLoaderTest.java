@@ -0,0 +1,289 @@
+package com.andersonsilva.taskservice.adapter.outbound.client;
+
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.exception.UserServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchLoaderTest {
+
+    @Mock
+    private UserClient userClient;
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+
+    private static final long BLOCKER_ID = 99L;
+
+    private static UserDTO user(long id) {
+        return new UserDTO(id, "Usuário " + id, "usuario" + id + "@example.com");
+    }
+
+    /**
+     * Deixa uma consulta de {@link #BLOCKER_ID} em andamento no user-service até {@code release},
+     * para que as seguintes sejam agrupadas em janelas.
+     */
+    private Future<Optional<UserDTO>> blockUserService(UserBatchLoader loader, ExecutorService executor,
+                                                       CountDownLatch release) throws InterruptedException {
+        CountDownLatch called = new CountDownLatch(1);
+        when(userClient.findById(BLOCKER_ID)).thenAnswer(inv -> {
+            called.countDown();
+            release.await();
+            return user(BLOCKER_ID);
+        });
+        Future<Optional<UserDTO>> blocked = executor.submit(() -> loader.load(BLOCKER_ID));
+        assertTrue(called.await(5, TimeUnit.SECONDS), "a consulta bloqueante não chegou ao user-service");
+        return blocked;
+    }
+
+    @Test
+    @DisplayName("Uma consulta isolada usa a busca por ID")
+    void singleLookupUsesFindById() {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ZERO, 100, MAX_WAIT);
+        when(userClient.findById(1L)).thenReturn(user(1));
+
+        assertEquals(Optional.of(user(1)), loader.load(1L));
+        verify(userClient, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Sem outra chamada em andamento a consulta é enviada sem esperar a janela")
+    void isolatedLookupDoesNotWaitForWindow() throws Exception {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofMinutes(1), 100, MAX_WAIT);
+        when(userClient.findById(1L)).thenReturn(user(1));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(Optional.of(user(1)), executor.submit(() -> loader.load(1L)).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Retorna vazio quando o user-service responde 404")
+    void singleLookupReturnsEmptyWhenNotFound() {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ZERO, 100, MAX_WAIT);
+        when(userClient.findById(2L)).thenThrow(mock(FeignException.NotFound.class));
+
+        assertTrue(loader.load(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Uma consulta de vários IDs conhecidos é dividida em lotes do tamanho máximo")
+    @SuppressWarnings("unchecked")
+    void loadAllSplitsIdsIntoMaxSizedBatches() {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofSeconds(1), 2, MAX_WAIT);
+        when(userClient.findAllById(any())).thenAnswer(inv -> ((Collection<Long>) inv.getArgument(0))
+                .stream()
+                .map(UserBatchLoaderTest::user)
+                .toList());
+        when(userClient.findById(anyLong())).thenAnswer(inv -> user(inv.getArgument(0)));
+
+        var users = loader.loadAll(List.of(1L, 2L, 3L, 2L));
+
+        assertEquals(Set.of(1L, 2L, 3L), users.keySet());
+        verify(userClient, times(1)).findAllById(any());
+        verify(userClient, times(1)).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Falhas de comunicação indicam serviço indisponível, e não usuário inexistente")
+    void lookupReportsUnavailabilityOnServerErrors() {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ZERO, 100, MAX_WAIT);
+        when(userClient.findById(3L)).thenThrow(mock(FeignException.ServiceUnavailable.class));
+
+        var ex = assertThrows(UserServiceUnavailableException.class, () -> loader.load(3L));
+        assertInstanceOf(FeignException.ServiceUnavailable.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Com o circuito aberto falha imediatamente, sem chamar o user-service")
+    void lookupFailsFastWhenCircuitIsOpen() {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ZERO, 100, MAX_WAIT);
+        circuitBreakers.circuitBreaker(UserBatchLoader.USER_SERVICE).transitionToOpenState();
+
+        var ex = assertThrows(UserServiceUnavailableException.class, () -> loader.load(1L));
+        assertInstanceOf(CallNotPermittedException.class, ex.getCause());
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    @DisplayName("Consultas concorrentes na mesma janela são agrupadas em uma única chamada")
+    @SuppressWarnings("unchecked")
+    void concurrentLookupsAreCoalesced() throws Exception {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofMillis(300), 100, MAX_WAIT);
+        when(userClient.findAllById(any())).thenAnswer(inv -> ((Collection<Long>) inv.getArgument(0))
+                .stream()
+                .filter(id -> id != 4L)
+                .map(UserBatchLoaderTest::user)
+                .toList());
+
+        List<Long> ids = LongStream.rangeClosed(1, 5).boxed().toList();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ids.size() + 1);
+        try {
+            Future<Optional<UserDTO>> blocked = blockUserService(loader, executor, release);
+            List<Future<Optional<UserDTO>>> results = ids.stream()
+                    .map(id -> executor.submit(() -> {
+                        start.await();
+                        return loader.load(id);
+                    }))
+                    .toList();
+            start.countDown();
+
+            for (int i = 0; i < ids.size(); i++) {
+                long id = ids.get(i);
+                assertEquals(id == 4L ? Optional.empty() : Optional.of(user(id)), results.get(i).get());
+            }
+            release.countDown();
+            assertEquals(Optional.of(user(BLOCKER_ID)), blocked.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(userClient, times(1)).findAllById(captor.capture());
+        assertEquals(5, captor.getValue().size());
+        verify(userClient, times(1)).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Uma janela cheia é disparada sem esperar o fim do intervalo")
+    @SuppressWarnings("unchecked")
+    void fullWindowIsDispatchedImmediately() throws Exception {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofMinutes(1), 2, MAX_WAIT);
+        when(userClient.findAllById(any())).thenAnswer(inv -> ((Collection<Long>) inv.getArgument(0))
+                .stream()
+                .map(UserBatchLoaderTest::user)
+                .toList());
+
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            blockUserService(loader, executor, release);
+            Future<Optional<UserDTO>> first = executor.submit(() -> loader.load(1L));
+
+            assertEquals(Optional.of(user(2)), loader.load(2L));
+            assertEquals(Optional.of(user(1)), first.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Um Error na chamada também é entregue às consultas que esperavam a mesma janela")
+    void errorInDispatchReleasesWaitingLookups() throws Exception {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofMillis(300), 100, MAX_WAIT);
+        when(userClient.findAllById(any())).thenThrow(new NoClassDefFoundError("feign/Response"));
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            blockUserService(loader, executor, release);
+            List<Future<Optional<UserDTO>>> results = LongStream.rangeClosed(1, 2).boxed()
+                    .map(id -> executor.submit(() -> {
+                        start.await();
+                        return loader.load(id);
+                    }))
+                    .toList();
+            start.countDown();
+
+            for (Future<Optional<UserDTO>> result : results) {
+                var ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(NoClassDefFoundError.class, ex.getCause());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A espera pelo resultado da janela é limitada e vira serviço indisponível")
+    @SuppressWarnings("unchecked")
+    void waitForBatchResultIsBounded() throws Exception {
+        var loader = new UserBatchLoader(userClient, circuitBreakers, bulkheads, Duration.ofMillis(300), 100,
+                Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.findAllById(any())).thenAnswer(inv -> {
+            release.await();
+            return ((Collection<Long>) inv.getArgument(0)).stream().map(UserBatchLoaderTest::user).toList();
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            blockUserService(loader, executor, release);
+            List<Future<Optional<UserDTO>>> results = LongStream.rangeClosed(1, 2).boxed()
+                    .map(id -> executor.submit(() -> {
+                        start.await();
+                        return loader.load(id);
+                    }))
+                    .toList();
+            start.countDown();
+
+            // Quem não disparou a chamada desiste após max-wait, ainda com o user-service sem responder
+            Future<Optional<UserDTO>> follower = null;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (follower == null && System.nanoTime() < deadline) {
+                follower = results.stream().filter(Future::isDone).findFirst().orElse(null);
+                Thread.sleep(10);
+            }
+            assertTrue(follower != null, "nenhuma consulta desistiu da espera");
+            var ex = assertThrows(ExecutionException.class, follower::get);
+            assertInstanceOf(UserServiceUnavailableException.class, ex.getCause());
+            assertInstanceOf(TimeoutException.class, ex.getCause().getCause());
+
+            release.countDown();
+            Future<Optional<UserDTO>> leader = results.get(0) == follower ? results.get(1) : results.get(0);
+            assertTrue(leader.get(5, TimeUnit.SECONDS).isPresent());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+}
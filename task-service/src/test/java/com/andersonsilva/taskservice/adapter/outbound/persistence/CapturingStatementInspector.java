@@ -0,0 +1,22 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda o último SQL preparado pelo Hibernate, para que os testes possam inspecionar o plano de execução.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        return sql;
+    }
+
+    public static String lastSql() {
+        return LAST_SQL.get();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.shared.persistence.PooledSequenceGenerator;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE + "=20")
+@ActiveProfiles("test")
+class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("A sequência é criada com o incremento configurado")
+    void sequenceUsesConfiguredAllocationSize() {
+        Long increment = jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TASKS_SEQ'", Long.class);
+
+        assertEquals(20L, increment);
+    }
+
+    @Test
+    @DisplayName("Os IDs de um bloco são entregues sem consultar a sequência a cada tarefa")
+    void idsAreAllocatedInBlocks() {
+        Long before = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tasks_seq", Long.class);
+
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(TaskEntity.builder().title("Tarefa " + i).userId(1L).status(TaskStatus.PENDENTE).build());
+        }
+        List<Long> ids = repository.saveAll(tasks).stream().map(TaskEntity::getId).toList();
+
+        Long after = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tasks_seq", Long.class);
+        assertEquals(LongStream.range(ids.get(0), ids.get(0) + 20).boxed().toList(), ids);
+        assertEquals(before + 40, after);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.andersonsilva.taskservice.adapter.outbound.persistence;
+
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.andersonsilva.taskservice.adapter.outbound.persistence.CapturingStatementInspector")
+@ActiveProfiles("test")
+class TaskRepositoryQueryPlanTest {
+
+    private static final Limit PAGE = Limit.of(51);
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (long userId = 1; userId <= 20; userId++) {
+            for (TaskStatus status : TaskStatus.values()) {
+                repository.save(TaskEntity.builder()
+                        .title("Tarefa " + userId)
+                        .userId(userId)
+                        .status(status)
+                        .createdAt(LocalDateTime.now().minusMinutes(userId))
+                        .build());
+            }
+        }
+        repository.flush();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    /**
+     * Executa EXPLAIN sobre o último SQL gerado pelo repositório, com os mesmos parâmetros da consulta.
+     */
+    private String explainLastQuery(Object... parameters) {
+        String sql = CapturingStatementInspector.lastSql();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    private void assertUsesIndex(String plan, String index) {
+        assertFalse(plan.contains("tableScan"), () -> "Plano com varredura sequencial: " + plan);
+        assertFalse(plan.toLowerCase().contains("is null"), () -> "Consulta genérica com IS NULL: " + plan);
+        assertTrue(plan.toLowerCase().contains(index), () -> "Índice " + index + " não utilizado: " + plan);
+    }
+
+    @Test
+    @DisplayName("findTasks por usuário e status usa índice composto")
+    void whenFilterByUserAndStatus_thenUseCompositeIndex() {
+        repository.findTasks(TaskStatus.PENDENTE, 5L, PAGE);
+        assertUsesIndex(explainLastQuery(5L, TaskStatus.PENDENTE.name(), PAGE.max()), "idx_tasks_user_id_status_created_at");
+    }
+
+    @Test
+    @DisplayName("findTasks por usuário usa índice de usuário e data")
+    void whenFilterByUser_thenUseUserIndex() {
+        repository.findTasks(null, 5L, PAGE);
+        assertUsesIndex(explainLastQuery(5L, PAGE.max()), "idx_tasks_user_id_");
+    }
+
+    @Test
+    @DisplayName("findTasks por status usa índice de status e data")
+    void whenFilterByStatus_thenUseStatusIndex() {
+        repository.findTasks(TaskStatus.CONCLUIDO, null, PAGE);
+        assertUsesIndex(explainLastQuery(TaskStatus.CONCLUIDO.name(), PAGE.max()), "idx_tasks_status_created_at");
+    }
+
+    @Test
+    @DisplayName("countByUserId usa índice iniciado por user_id")
+    void whenCountByUser_thenUseUserIndex() {
+        repository.countByUserId(5L);
+        assertUsesIndex(explainLastQuery(5L), "idx_tasks_user_id_");
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +15,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
+@ActiveProfiles("test")
 class TaskRepositoryTest {
 
     @Autowired
@@ -37,7 +40,7 @@ class TaskRepositoryTest {
         repository.save(older);
         repository.save(newer);
 
-        List<TaskEntity> result = repository.findTasks(null, null);
+        List<TaskEntity> result = repository.findTasks(null, null, Limit.of(10));
 
         assertEquals(2, result.size());
         assertEquals("new", result.get(0).getTitle());
@@ -50,7 +53,7 @@ class TaskRepositoryTest {
         repository.save(build("a", 1L, TaskStatus.PENDENTE, LocalDateTime.now().minusDays(1)));
         repository.save(build("b", 2L, TaskStatus.CONCLUIDO, LocalDateTime.now()));
 
-        var pendentes = repository.findTasks(TaskStatus.PENDENTE, null);
+        var pendentes = repository.findTasks(TaskStatus.PENDENTE, null, Limit.of(10));
         assertEquals(1, pendentes.size());
         assertEquals(TaskStatus.PENDENTE, pendentes.get(0).getStatus());
     }
@@ -61,7 +64,7 @@ class TaskRepositoryTest {
         repository.save(build("a", 5L, TaskStatus.PENDENTE, LocalDateTime.now().minusDays(1)));
         repository.save(build("b", 6L, TaskStatus.PENDENTE, LocalDateTime.now()));
 
-        var user5 = repository.findTasks(null, 5L);
+        var user5 = repository.findTasks(null, 5L, Limit.of(10));
         assertEquals(1, user5.size());
         assertEquals(5L, user5.get(0).getUserId());
     }
@@ -73,8 +76,24 @@ class TaskRepositoryTest {
         repository.save(build("nm1", 9L, TaskStatus.PENDENTE, LocalDateTime.now().minusHours(1)));
         repository.save(build("nm2", 8L, TaskStatus.CONCLUIDO, LocalDateTime.now().minusDays(1)));
 
-        var result = repository.findTasks(TaskStatus.CONCLUIDO, 9L);
+        var result = repository.findTasks(TaskStatus.CONCLUIDO, 9L, Limit.of(10));
         assertEquals(1, result.size());
         assertEquals("match", result.get(0).getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findTasksBefore - keyset retorna a página seguinte sem repetir registros")
+    void whenPagingWithKeyset_thenReturnNextPageWithoutOverlap() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.save(build("t1", 1L, TaskStatus.PENDENTE, now.minusHours(3)));
+        repository.save(build("t2", 1L, TaskStatus.PENDENTE, now.minusHours(2)));
+        repository.save(build("t3", 1L, TaskStatus.PENDENTE, now.minusHours(1)));
+
+        var firstPage = repository.findTasks(null, 1L, Limit.of(2));
+        assertEquals(List.of("t3", "t2"), firstPage.stream().map(TaskEntity::getTitle).toList());
+
+        var last = firstPage.get(1);
+        var secondPage = repository.findTasksBefore(null, 1L, last.getCreatedAt(), last.getId(), Limit.of(2));
+        assertEquals(List.of("t1"), secondPage.stream().map(TaskEntity::getTitle).toList());
+    }
+}
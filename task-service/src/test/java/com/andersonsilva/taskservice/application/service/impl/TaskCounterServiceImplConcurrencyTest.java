@@ -0,0 +1,72 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskCounterServiceImplConcurrencyTest {
+
+    private static final long USER_ID = 4242L;
+    private static final int WRITERS = 8;
+    private static final int MOVES_PER_WRITER = 200;
+
+    @Autowired
+    private ITaskCounterService service;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Movimentações em sentidos opostos do mesmo usuário não entram em deadlock")
+    void oppositeMovesDoNotDeadlock() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            service.increment(USER_ID, TaskStatus.PENDENTE, WRITERS * MOVES_PER_WRITER);
+            service.increment(USER_ID, TaskStatus.CONCLUIDO, WRITERS * MOVES_PER_WRITER);
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                // Metade conclui tarefas e a outra metade as reabre, cada movimentação em sua transação
+                TaskStatus from = i % 2 == 0 ? TaskStatus.PENDENTE : TaskStatus.CONCLUIDO;
+                TaskStatus to = i % 2 == 0 ? TaskStatus.CONCLUIDO : TaskStatus.PENDENTE;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < MOVES_PER_WRITER; j++) {
+                        transaction.executeWithoutResult(status -> service.move(USER_ID, from, to));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        Map<TaskStatus, Long> counts = service.countByStatus(USER_ID);
+        assertEquals((long) WRITERS * MOVES_PER_WRITER, counts.get(TaskStatus.PENDENTE));
+        assertEquals((long) WRITERS * MOVES_PER_WRITER, counts.get(TaskStatus.CONCLUIDO));
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskCounterRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.domain.TaskCounterEntity;
+import com.andersonsilva.taskservice.domain.TaskCounterId;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(TaskCounterServiceImpl.class)
+class TaskCounterServiceImplTest {
+
+    @Autowired
+    private TaskCounterServiceImpl service;
+
+    @Autowired
+    private TaskCounterRepository counterRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long counter(Long userId, TaskStatus status) {
+        entityManager.clear();
+        return counterRepository.findById(new TaskCounterId(userId, status))
+                .map(TaskCounterEntity::getTaskCount)
+                .orElse(0L);
+    }
+
+    @Test
+    @DisplayName("Incrementa, move e decrementa os contadores por usuário e status")
+    void incrementMoveAndDecrement() {
+        service.increment(1L, TaskStatus.PENDENTE);
+        service.increment(1L, TaskStatus.PENDENTE);
+        service.move(1L, TaskStatus.PENDENTE, TaskStatus.CONCLUIDO);
+
+        assertEquals(1L, counter(1L, TaskStatus.PENDENTE));
+        assertEquals(1L, counter(1L, TaskStatus.CONCLUIDO));
+        assertEquals(2L, service.countByUserId(1L));
+
+        service.decrement(1L, TaskStatus.CONCLUIDO);
+        assertEquals(1L, service.countByUserId(1L));
+        assertEquals(0L, service.countByUserId(2L));
+    }
+
+    @Test
+    @DisplayName("Reconciliação corrige contadores divergentes e cria os ausentes")
+    void reconcileRepairsDrift() {
+        taskRepository.save(TaskEntity.builder().title("a").userId(5L).status(TaskStatus.PENDENTE).build());
+        taskRepository.save(TaskEntity.builder().title("b").userId(5L).status(TaskStatus.PENDENTE).build());
+        taskRepository.save(TaskEntity.builder().title("c").userId(6L).status(TaskStatus.CONCLUIDO).build());
+        taskRepository.flush();
+
+        service.increment(5L, TaskStatus.PENDENTE);
+        service.increment(5L, TaskStatus.EM_ANDAMENTO);
+
+        int repaired = service.reconcile();
+
+        assertEquals(3, repaired);
+        assertEquals(2L, counter(5L, TaskStatus.PENDENTE));
+        assertEquals(0L, counter(5L, TaskStatus.EM_ANDAMENTO));
+        assertEquals(1L, counter(6L, TaskStatus.CONCLUIDO));
+        assertEquals(0, service.reconcile());
+    }
+
+}
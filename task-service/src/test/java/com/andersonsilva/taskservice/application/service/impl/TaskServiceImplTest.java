@@ -1,21 +1,39 @@
 package com.andersonsilva.taskservice.application.service.impl;
 
-import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.shared.exception.PreconditionFailedException;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.DeadlineCountView;
 import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskStatusView;
+import com.andersonsilva.taskservice.application.dto.TaskCursor;
+import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
+import com.andersonsilva.taskservice.application.dto.TaskStatsDTO;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.exception.UserServiceUnavailableException;
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
+import com.andersonsilva.taskservice.application.service.IUserLookupService;
 import com.andersonsilva.taskservice.domain.TaskEntity;
 import com.andersonsilva.taskservice.domain.TaskStatus;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,13 +45,21 @@ class TaskServiceImplTest {
     private TaskRepository repository;
 
     @Mock
-    private UserClient userClient;
+    private IUserLookupService userLookup;
+
+    @Mock
+    private ITaskCounterService counterService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TaskServiceImpl service;
 
     private TaskEntity taskEntity;
 
+    private final UserDTO user = new UserDTO(1L, "Anderson", "anderson@example.com");
+
     @BeforeEach
     void setup() {
         taskEntity = TaskEntity.builder()
@@ -44,25 +70,50 @@ class TaskServiceImplTest {
                 .status(TaskStatus.PENDENTE)
                 .createdAt(LocalDateTime.now())
                 .deadline(LocalDateTime.now().plusDays(3))
+                .version(0L)
                 .build();
     }
 
     @Test
-    @DisplayName("Listar todas as tarefas sem filtros")
-    void listAllTasksWithoutFilters() {
-        when(repository.findTasks(any(), any())).thenReturn(List.of(taskEntity));
-        var resultado = service.findTasksByStatusAndUserId(null, null);
-        assertEquals(1, resultado.size());
-        verify(repository).findTasks(any(), any());
+    @DisplayName("Paginar tarefas retorna cursor quando existe próxima página")
+    void findTasksPageReturnsNextCursorWhenThereAreMoreTasks() {
+        var older = TaskEntity.builder()
+                .id(2L)
+                .userId(1L)
+                .title("Tarefa antiga")
+                .status(TaskStatus.PENDENTE)
+                .createdAt(taskEntity.getCreatedAt().minusDays(1))
+                .build();
+        when(repository.findTasks(null, null, Limit.of(2))).thenReturn(List.of(taskEntity, older));
+
+        var page = service.findTasksPage(null, null, null, 1);
+
+        assertEquals(List.of(taskEntity), page.content());
+        assertTrue(page.hasNext());
+        assertEquals(TaskCursor.of(taskEntity), TaskCursor.decode(page.nextCursor()));
     }
 
     @Test
-    @DisplayName("Listar tarefas por status e usuário")
-    void listTasksByStatusAndUserId() {
-        when(repository.findTasks(eq(TaskStatus.PENDENTE), eq(1L))).thenReturn(List.of(taskEntity));
-        var resultado = service.findTasksByStatusAndUserId(TaskStatus.PENDENTE, 1L);
-        assertEquals(1, resultado.size());
-        verify(repository).findTasks(eq(TaskStatus.PENDENTE), eq(1L));
+    @DisplayName("Paginar tarefas a partir de um cursor usa a consulta keyset")
+    void findTasksPageFromCursorUsesKeysetQuery() {
+        var cursor = new TaskCursor(taskEntity.getCreatedAt(), 10L);
+        when(repository.findTasksBefore(TaskStatus.PENDENTE, 1L, cursor.createdAt(), 10L, Limit.of(51)))
+                .thenReturn(List.of(taskEntity));
+
+        var page = service.findTasksPage(TaskStatus.PENDENTE, 1L, cursor.encode(), 50);
+
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Lançar exceção ao paginar com cursor ou limite inválido")
+    void findTasksPageWithInvalidArgumentsThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.findTasksPage(null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.findTasksPage(null, null, null, 201));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.findTasksPage(null, null, "nao-e-um-cursor", 10));
+        assertEquals("Cursor inválido", ex.getMessage());
     }
 
     @Test
@@ -85,24 +136,70 @@ class TaskServiceImplTest {
     @Test
     @DisplayName("Criar nova tarefa para usuário válido")
     void createTaskForValidUser() {
-        when(userClient.findById(1L)).thenReturn(null);
+        when(userLookup.findById(1L)).thenReturn(Optional.of(user));
         when(repository.save(any())).thenReturn(taskEntity);
 
         var criada = service.createTask(1L, "Atualizar documentação", "Documentar novos endpoints", taskEntity.getDeadline());
         assertEquals(TaskStatus.PENDENTE, criada.getStatus());
-        verify(userClient).findById(1L);
+        verify(userLookup).findById(1L);
         verify(repository).save(any());
+        verify(counterService).increment(1L, TaskStatus.PENDENTE);
     }
 
     @Test
     @DisplayName("Lançar exceção ao criar tarefa para usuário inexistente")
     void createTaskForInvalidUserThrowsException() {
-        doThrow(new RuntimeException()).when(userClient).findById(2L);
+        when(userLookup.findById(2L)).thenReturn(Optional.empty());
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
                 () -> service.createTask(2L, "Tarefa inválida", "Usuário não existe", null));
         assertEquals("Usuário não encontrado", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Não trata indisponibilidade do user-service como usuário inexistente")
+    void createTaskWhenUserServiceUnavailablePropagatesException() {
+        when(userLookup.findById(1L)).thenThrow(new UserServiceUnavailableException(new RuntimeException("timeout")));
+        assertThrows(UserServiceUnavailableException.class,
+                () -> service.createTask(1L, "Tarefa", "user-service fora do ar", null));
+        verify(repository, never()).save(any());
+        verifyNoInteractions(counterService);
+    }
+
+    @Test
+    @DisplayName("Criar tarefas em lote rejeita itens inválidos e incrementa o contador uma vez por usuário")
+    void createTasksReportsInvalidItemsAndCreatesTheRest() {
+        when(userLookup.findAllById(any())).thenReturn(Map.of(1L, user));
+        when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        var result = service.createTasks(Arrays.asList(
+                new TaskRequestDTO(1L, "Importada 1", null, null, null),
+                new TaskRequestDTO(1L, " ", null, null, null),
+                new TaskRequestDTO(2L, "Usuário inexistente", null, null, null),
+                null,
+                new TaskRequestDTO(1L, "Importada 2", null, TaskStatus.CONCLUIDO, null)
+        ));
+
+        assertEquals(List.of("Importada 1", "Importada 2"), result.created().stream().map(TaskEntity::getTitle).toList());
+        assertTrue(result.created().stream().allMatch(task -> task.getStatus() == TaskStatus.PENDENTE));
+        assertEquals(List.of(1, 2, 3), result.errors().stream().map(error -> error.index()).toList());
+        assertEquals(List.of("title: Título é obrigatório"), result.errors().get(0).messages());
+        assertEquals(List.of("Usuário não encontrado"), result.errors().get(1).messages());
+        verify(userLookup).findAllById(Set.of(1L, 2L));
+        verify(counterService).increment(1L, TaskStatus.PENDENTE, 2L);
+        verifyNoMoreInteractions(counterService);
+    }
+
+    @Test
+    @DisplayName("Criar tarefas em lote vazio ou acima do limite lança IllegalArgumentException")
+    void createTasksOutsideLimitsThrowsException() {
+        var tooMany = Collections.nCopies(TaskServiceImpl.MAX_BULK_SIZE + 1,
+                new TaskRequestDTO(1L, "Tarefa", null, null, null));
+
+        assertThrows(IllegalArgumentException.class, () -> service.createTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.createTasks(tooMany));
+        verifyNoInteractions(userLookup, repository);
+    }
+
     @Test
     @DisplayName("Lançar exceção ao tentar editar tarefa concluída")
     void updateCompletedTaskThrowsException() {
@@ -110,29 +207,215 @@ class TaskServiceImplTest {
         when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
 
         IllegalStateException ex = assertThrows(IllegalStateException.class,
-                () -> service.updateTask(1L, "Novo título", "Nova descrição", TaskStatus.EM_ANDAMENTO, null));
+                () -> service.updateTask(1L, "Novo título", "Nova descrição", TaskStatus.EM_ANDAMENTO, null, null));
         assertEquals("Não é possível editar tarefas concluídas", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Lançar exceção ao editar ou excluir tarefa com versão diferente da informada")
+    void updateOrDeleteWithStaleVersionThrowsException() {
+        when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
+
+        PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                () -> service.updateTask(1L, "Novo título", null, TaskStatus.PENDENTE, null, 3L));
+        assertEquals("A tarefa foi alterada por outra requisição", ex.getMessage());
+        assertThrows(PreconditionFailedException.class,
+                () -> service.patchTask(1L, "Novo título", null, null, null, 3L));
+        assertThrows(PreconditionFailedException.class, () -> service.deleteTask(1L, 3L));
+        assertEquals("Corrigir layout da tela de login", taskEntity.getTitle());
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(userLookup, counterService);
+    }
+
+    @Test
+    @DisplayName("Conflito de versão ao gravar é falha de pré-condição apenas quando a versão foi informada")
+    void concurrentChangeOnFlushFailsPreconditionOnlyWithExpectedVersion() {
+        when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
+        doThrow(new ObjectOptimisticLockingFailureException(TaskEntity.class, 1L)).when(repository).flush();
+
+        PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                () -> service.patchTask(1L, "Novo título", null, null, null, 0L));
+        assertEquals("A tarefa foi alterada por outra requisição", ex.getMessage());
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.patchTask(1L, "Novo título", null, null, null, null));
+        assertThrows(PreconditionFailedException.class, () -> service.deleteTask(1L, 0L));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.deleteTask(1L, null));
+        verifyNoInteractions(counterService);
+    }
+
     @Test
     @DisplayName("Atualizar dados da tarefa com sucesso")
     void updateTaskSuccessfully() {
         when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
-        when(userClient.findById(1L)).thenReturn(null);
+        when(userLookup.findById(1L)).thenReturn(Optional.of(user));
         when(repository.save(any())).thenAnswer(invocacao -> invocacao.getArgument(0));
 
-        var atualizada = service.updateTask(1L, "Revisar testes automatizados", "Ajustar testes com Mockito", TaskStatus.EM_ANDAMENTO, taskEntity.getDeadline());
+        var atualizada = service.updateTask(1L, "Revisar testes automatizados", "Ajustar testes com Mockito", TaskStatus.EM_ANDAMENTO, taskEntity.getDeadline(), null);
 
         assertEquals("Revisar testes automatizados", atualizada.getTitle());
         assertEquals(TaskStatus.EM_ANDAMENTO, atualizada.getStatus());
+        verify(counterService).move(1L, TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO);
+    }
+
+    @Test
+    @DisplayName("Atualizar parcialmente altera só os campos informados sem consultar o user-service")
+    void patchTaskChangesOnlyProvidedFields() {
+        when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
+
+        var atualizada = service.patchTask(1L, null, null, TaskStatus.EM_ANDAMENTO, null, null);
+
+        assertEquals("Corrigir layout da tela de login", atualizada.getTitle());
+        assertEquals("Revisar alinhamento e cores no formulário de login", atualizada.getDescription());
+        assertEquals(TaskStatus.EM_ANDAMENTO, atualizada.getStatus());
+        verify(repository).flush();
+        verify(counterService).move(1L, TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO);
+        verifyNoInteractions(userLookup);
+    }
+
+    @Test
+    @DisplayName("Atualizar parcialmente sem mudar o status não mexe nos contadores")
+    void patchTaskWithoutStatusChangeKeepsCounters() {
+        when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
+
+        var atualizada = service.patchTask(1L, "Novo título", null, TaskStatus.PENDENTE, null, null);
+
+        assertEquals("Novo título", atualizada.getTitle());
+        verifyNoInteractions(counterService, userLookup);
+    }
+
+    @Test
+    @DisplayName("Lançar exceção ao atualizar parcialmente tarefa concluída")
+    void patchCompletedTaskThrowsException() {
+        taskEntity.setStatus(TaskStatus.CONCLUIDO);
+        when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> service.patchTask(1L, null, null, TaskStatus.PENDENTE, null, null));
+        assertEquals("Não é possível editar tarefas concluídas", ex.getMessage());
+        verifyNoInteractions(counterService);
+    }
+
+    @Test
+    @DisplayName("Alterar status em lote atualiza só as tarefas bloqueadas e ajusta os contadores por usuário")
+    void updateStatusMovesCountersPerUserAndPreviousStatus() {
+        when(repository.lockForStatusChange(List.of(1L, 2L, 3L, 4L), TaskStatus.EM_ANDAMENTO)).thenReturn(List.of(
+                view(1L, 7L, TaskStatus.PENDENTE),
+                view(2L, 3L, TaskStatus.PENDENTE),
+                view(4L, 7L, TaskStatus.PENDENTE)
+        ));
+
+        var updated = service.updateStatus(List.of(4L, 2L, 1L, 3L, 2L), TaskStatus.EM_ANDAMENTO);
+
+        assertEquals(List.of(1L, 2L, 4L), updated);
+        verify(repository).updateStatus(List.of(1L, 2L, 4L), TaskStatus.EM_ANDAMENTO);
+        var inOrder = inOrder(counterService);
+        inOrder.verify(counterService).move(3L, TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO, 1L);
+        inOrder.verify(counterService).move(7L, TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO, 2L);
+        verifyNoMoreInteractions(counterService);
+        verifyNoInteractions(userLookup);
+    }
+
+    @Test
+    @DisplayName("Alterar status em lote sem status, vazio ou acima do limite lança IllegalArgumentException")
+    void updateStatusWithInvalidArgumentsThrowsException() {
+        var tooMany = Collections.nCopies(TaskServiceImpl.MAX_STATUS_UPDATE_SIZE + 1, 1L);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.updateStatus(List.of(1L), null));
+        assertEquals("Status é obrigatório", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(List.of(), TaskStatus.CONCLUIDO));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(tooMany, TaskStatus.CONCLUIDO));
+        verifyNoInteractions(repository, counterService);
     }
 
     @Test
     @DisplayName("Excluir tarefa existente com sucesso")
     void deleteTaskSuccessfully() {
         when(repository.findById(1L)).thenReturn(Optional.of(taskEntity));
-        assertDoesNotThrow(() -> service.deleteTask(1L));
+        assertDoesNotThrow(() -> service.deleteTask(1L, 0L));
         verify(repository).delete(taskEntity);
+        verify(counterService).decrement(1L, TaskStatus.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("Contar tarefas por usuário usa os contadores mantidos")
+    void countTasksByUserIdUsesCounters() {
+        when(counterService.countByUserId(1L)).thenReturn(4L);
+        assertEquals(4L, service.countTasksByUserId(1L));
+        verify(repository, never()).countByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Estatísticas combinam os contadores com a agregação de prazos, sem carregar tarefas")
+    void getStatsCombinesCountersAndDeadlineAggregate() {
+        when(counterService.countByStatus(1L)).thenReturn(Map.of(
+                TaskStatus.PENDENTE, 3L, TaskStatus.EM_ANDAMENTO, 2L, TaskStatus.CONCLUIDO, 5L));
+        when(repository.countOpenByDeadline(eq(1L), any(), any())).thenReturn(deadlines(1L, 2L));
+
+        TaskStatsDTO stats = service.getStats(1L, 48);
+
+        assertEquals(1L, stats.userId());
+        assertEquals(10L, stats.total());
+        assertEquals(1L, stats.overdue());
+        assertEquals(2L, stats.dueSoon());
+        assertEquals(48, stats.dueSoonHours());
+        verify(repository).countOpenByDeadline(eq(1L), argThat(now -> now.isBefore(LocalDateTime.now().plusSeconds(1))),
+                argThat(dueBefore -> dueBefore.isAfter(LocalDateTime.now().plusHours(47))));
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Estatísticas sem usuário usam a agregação global")
+    void getStatsWithoutUserUsesGlobalAggregate() {
+        when(counterService.countByStatus(null)).thenReturn(Map.of(TaskStatus.PENDENTE, 1L));
+        when(repository.countOpenByDeadline(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(deadlines(0L, 1L));
+
+        TaskStatsDTO stats = service.getStats(null, 24);
+
+        assertNull(stats.userId());
+        assertEquals(1L, stats.dueSoon());
+        verify(repository, never()).countOpenByDeadline(any(Long.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Estatísticas rejeitam janela de vencimento fora do limite")
+    void getStatsRejectsInvalidDueSoonHours() {
+        assertThrows(IllegalArgumentException.class, () -> service.getStats(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.getStats(1L, TaskServiceImpl.MAX_DUE_SOON_HOURS + 1));
+        verifyNoInteractions(repository, counterService);
+    }
+
+    private static DeadlineCountView deadlines(long overdue, long dueSoon) {
+        return new DeadlineCountView() {
+            @Override
+            public long getOverdue() {
+                return overdue;
+            }
+
+            @Override
+            public long getDueSoon() {
+                return dueSoon;
+            }
+        };
+    }
+
+    private static TaskStatusView view(Long id, Long userId, TaskStatus status) {
+        return new TaskStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+        };
     }
 
-}
\ No newline at end of file
+}
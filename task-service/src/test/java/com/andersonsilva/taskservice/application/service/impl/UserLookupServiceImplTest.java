@@ -0,0 +1,75 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.client.UserBatchLoader;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceImplTest {
+
+    @Mock
+    private UserBatchLoader userLoader;
+
+    @Mock
+    private KnownUserRepository knownUserRepository;
+
+    @InjectMocks
+    private UserLookupServiceImpl service;
+
+    @Test
+    @DisplayName("Usa a projeção local sem consultar o user-service quando o usuário já foi replicado")
+    void findByIdUsesLocalProjectionFirst() {
+        when(knownUserRepository.findById(1L)).thenReturn(Optional.of(KnownUserEntity.builder()
+                .id(1L)
+                .name("Anderson")
+                .email("anderson@example.com")
+                .build()));
+
+        assertEquals(Optional.of(new UserDTO(1L, "Anderson", "anderson@example.com")), service.findById(1L));
+        verifyNoInteractions(userLoader);
+    }
+
+    @Test
+    @DisplayName("Consulta o user-service quando o usuário ainda não foi replicado")
+    void findByIdFallsBackToRemoteLookup() {
+        var user = new UserDTO(1L, "Anderson", "anderson@example.com");
+        when(knownUserRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userLoader.load(1L)).thenReturn(Optional.of(user));
+
+        assertEquals(Optional.of(user), service.findById(1L));
+    }
+
+    @Test
+    @DisplayName("Em lote, consulta o user-service apenas pelos usuários ausentes da projeção local")
+    void findAllByIdLoadsOnlyMissingUsersRemotely() {
+        var remote = new UserDTO(2L, "Maria", "maria@example.com");
+        when(knownUserRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(KnownUserEntity.builder()
+                .id(1L)
+                .name("Anderson")
+                .email("anderson@example.com")
+                .build()));
+        when(userLoader.loadAll(Set.of(2L, 3L))).thenReturn(Map.of(2L, remote));
+
+        assertEquals(Map.of(1L, new UserDTO(1L, "Anderson", "anderson@example.com"), 2L, remote),
+                service.findAllById(Set.of(1L, 2L, 3L)));
+        verify(userLoader).loadAll(Set.of(2L, 3L));
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.andersonsilva.taskservice.application.service.impl;
+
+import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.ReplicationOffsetRepository;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.application.dto.UserEventDTO;
+import com.andersonsilva.taskservice.application.dto.UserEventType;
+import com.andersonsilva.taskservice.config.CacheConfig;
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import com.andersonsilva.taskservice.domain.ReplicationOffsetEntity;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserReplicationServiceImplTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private KnownUserRepository knownUserRepository;
+
+    @Mock
+    private ReplicationOffsetRepository offsetRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache usersCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserReplicationServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new UserReplicationServiceImpl(userClient, knownUserRepository, offsetRepository,
+                cacheManager, transactionManager, 2);
+    }
+
+    private UserEventDTO event(long position, long userId, UserEventType type) {
+        return new UserEventDTO(position + 1000, position, userId, type, "Usuário " + userId, "u" + userId + "@example.com", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Aplica eventos a partir do último offset e avança o offset")
+    void replicateAppliesEventsAndAdvancesOffset() {
+        when(cacheManager.getCache(CacheConfig.USERS_CACHE)).thenReturn(usersCache);
+        when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM))
+                .thenReturn(Optional.of(new ReplicationOffsetEntity(UserReplicationServiceImpl.USER_EVENTS_STREAM, 10L)));
+        when(userClient.findEvents(10L, 2)).thenReturn(List.of(
+                event(11L, 1L, UserEventType.CREATED),
+                event(12L, 2L, UserEventType.DELETED)
+        ));
+        when(userClient.findEvents(12L, 2)).thenReturn(List.of());
+        when(offsetRepository.save(any())).thenAnswer(invocation -> {
+            ReplicationOffsetEntity offset = invocation.getArgument(0);
+            when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM)).thenReturn(Optional.of(offset));
+            return offset;
+        });
+
+        int replicated = service.replicatePendingEvents();
+
+        assertEquals(2, replicated);
+        ArgumentCaptor<KnownUserEntity> saved = ArgumentCaptor.forClass(KnownUserEntity.class);
+        verify(knownUserRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getId());
+        verify(knownUserRepository).deleteById(2L);
+        verify(usersCache).evict(1L);
+        verify(usersCache).evict(2L);
+        verify(userClient).findEvents(12L, 2);
+    }
+
+    @Test
+    @DisplayName("Reconstrói a projeção pela listagem de usuários quando o feed já expurgou eventos após o offset")
+    void replicateResynchronizesWhenEventsWerePurged() {
+        when(cacheManager.getCache(CacheConfig.USERS_CACHE)).thenReturn(usersCache);
+        when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM))
+                .thenReturn(Optional.of(new ReplicationOffsetEntity(UserReplicationServiceImpl.USER_EVENTS_STREAM, 10L)));
+        when(offsetRepository.save(any())).thenAnswer(invocation -> {
+            ReplicationOffsetEntity offset = invocation.getArgument(0);
+            when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM)).thenReturn(Optional.of(offset));
+            return offset;
+        });
+        FeignException.Gone gone = mock(FeignException.Gone.class);
+        when(gone.responseHeaders()).thenReturn(Map.of("x-oldest-event-position", List.of("40")));
+        when(userClient.findEvents(10L, 2)).thenThrow(gone);
+        when(userClient.findPage(UserClient.SORT_BY_CREATED_AT, null, UserClient.MAX_PAGE_SIZE)).thenReturn(
+                ResponseEntity.ok().header(UserClient.NEXT_CURSOR_HEADER, "c1").body(List.of(user(3L), user(2L))));
+        when(userClient.findPage(UserClient.SORT_BY_CREATED_AT, "c1", UserClient.MAX_PAGE_SIZE)).thenReturn(
+                ResponseEntity.ok(List.of(user(1L))));
+        when(knownUserRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L, 7L));
+        when(userClient.findEvents(39L, 2)).thenReturn(List.of(event(40L, 4L, UserEventType.CREATED)));
+
+        int replicated = service.replicatePendingEvents();
+
+        assertEquals(4, replicated);
+        verify(knownUserRepository).deleteAllByIdInBatch(List.of(7L));
+        ArgumentCaptor<KnownUserEntity> saved = ArgumentCaptor.forClass(KnownUserEntity.class);
+        verify(knownUserRepository, times(4)).save(saved.capture());
+        assertEquals(List.of(3L, 2L, 1L, 4L), saved.getAllValues().stream().map(KnownUserEntity::getId).toList());
+        verify(usersCache).clear();
+        assertEquals(40L, offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM)
+                .orElseThrow().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Propaga um segundo 410 em vez de reconstruir a projeção de novo na mesma execução")
+    void replicateResynchronizesOncePerRun() {
+        when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM)).thenReturn(Optional.empty());
+        FeignException.Gone gone = mock(FeignException.Gone.class);
+        when(gone.responseHeaders()).thenReturn(Map.of(UserClient.OLDEST_EVENT_POSITION_HEADER, List.of("5")));
+        when(userClient.findEvents(0L, 2)).thenThrow(gone);
+        when(userClient.findPage(UserClient.SORT_BY_CREATED_AT, null, UserClient.MAX_PAGE_SIZE))
+                .thenReturn(ResponseEntity.ok(List.of()));
+
+        assertThrows(FeignException.Gone.class, () -> service.replicatePendingEvents());
+        verify(userClient, times(1)).findPage(any(), any(), anyInt());
+    }
+
+    private UserDTO user(long id) {
+        return new UserDTO(id, "Usuário " + id, "u" + id + "@example.com");
+    }
+
+    @Test
+    @DisplayName("Não altera nada quando não há eventos novos")
+    void replicateWithoutEventsDoesNothing() {
+        when(offsetRepository.findById(UserReplicationServiceImpl.USER_EVENTS_STREAM)).thenReturn(Optional.empty());
+        when(userClient.findEvents(0L, 2)).thenReturn(List.of());
+
+        assertEquals(0, service.replicatePendingEvents());
+        verifyNoInteractions(knownUserRepository);
+        verify(offsetRepository, never()).save(any());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.shared.persistence.PooledSequenceGenerator;
+import com.andersonsilva.taskservice.TaskServiceApplication;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskCounterRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.application.dto.BulkResult;
+import com.andersonsilva.taskservice.application.dto.TaskRequestDTO;
+import com.andersonsilva.taskservice.application.service.ITaskService;
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tarefas inseridas por segundo por {@code ITaskService.createTasks}, variando juntos o tamanho do
+ * lote JDBC ({@code hibernate.jdbc.batch_size}) e o tamanho do bloco de IDs reservado da sequência
+ * ({@value PooledSequenceGenerator#ALLOCATION_SIZE}). Com 1, cada tarefa custa uma chamada à
+ * sequência e um INSERT isolado, como com IDENTITY.
+ * <p>
+ * Roda sobre o H2 em memória do perfil {@code test}, sem ida e volta pela rede; no Postgres o
+ * ganho dos lotes é maior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(TaskInsertBenchmark.TASKS_PER_CALL)
+@Fork(1)
+public class TaskInsertBenchmark {
+
+    static final int TASKS_PER_CALL = 1000;
+    private static final long USERS = 10;
+
+    @Param({"1", "50", "500"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ITaskService service;
+    private List<TaskRequestDTO> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE + "=" + batchSize);
+        service = context.getBean(ITaskService.class);
+
+        List<KnownUserEntity> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(KnownUserEntity.builder()
+                    .id(id)
+                    .name("Usuário " + id)
+                    .email("usuario" + id + "@example.com")
+                    .build());
+        }
+        context.getBean(KnownUserRepository.class).saveAll(users);
+
+        requests = new ArrayList<>(TASKS_PER_CALL);
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        for (int i = 0; i < TASKS_PER_CALL; i++) {
+            requests.add(new TaskRequestDTO(i % USERS + 1, "Tarefa importada " + i,
+                    "Descrição da tarefa importada " + i, null, deadline));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        context.getBean(TaskRepository.class).deleteAllInBatch();
+        context.getBean(TaskCounterRepository.class).deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BulkResult<TaskEntity> createTasks() {
+        return service.createTasks(requests);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.taskservice.application.dto.TaskResponseDTO;
+import com.andersonsilva.taskservice.application.mapper.TaskMapper;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento de uma página de tarefas para {@link TaskResponseDTO}: {@link TaskMapper} contra a
+ * configuração de ModelMapper usada anteriormente pelos controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int size;
+
+    private List<TaskEntity> tasks;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= size; i++) {
+            tasks.add(TaskEntity.builder()
+                    .id(i)
+                    .userId(i % 10)
+                    .title("Tarefa " + i)
+                    .description("Descrição da tarefa " + i)
+                    .status(TaskStatus.values()[(int) (i % 3)])
+                    .createdAt(now.minusMinutes(i))
+                    .deadline(now.plusDays(i))
+                    .build());
+        }
+
+        modelMapper = new ModelMapper();
+        modelMapper.typeMap(TaskEntity.class, TaskResponseDTO.class)
+                .setProvider(request -> TaskMapper.toResponse((TaskEntity) request.getSource()));
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskMapper() {
+        return TaskMapper.toResponse(tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> modelMapper() {
+        return tasks.stream()
+                .map(task -> modelMapper.map(task, TaskResponseDTO.class))
+                .toList();
+    }
+
+}
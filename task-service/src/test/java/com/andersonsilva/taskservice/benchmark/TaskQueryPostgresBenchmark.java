@@ -0,0 +1,163 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.shared.test.PostgresTestDatabase;
+import com.andersonsilva.taskservice.TaskServiceApplication;
+import com.andersonsilva.taskservice.application.dto.TaskCursor;
+import com.andersonsilva.taskservice.application.service.ITaskService;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de cada formato de filtro da listagem de tarefas ({@code TaskQueryRepositoryImpl}) no
+ * PostgreSQL, com {@code rows} tarefas (10 milhões por padrão) distribuídas por
+ * {@value #USERS} usuários e pelos três status.
+ * <p>
+ * Usa o servidor de {@code TEST_POSTGRES_URL} ou um contêiner, como os testes de migração (ver
+ * {@link PostgresTestDatabase}). As tarefas são semeadas uma única vez no banco
+ * {@value #DATABASE}, que é mantido entre execuções; a primeira leva alguns minutos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryPostgresBenchmark {
+
+    private static final String DATABASE = "task_query_benchmark";
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int SEED_CHUNK = 1_000_000;
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Param({"10000000"})
+    private long rows;
+
+    private ConfigurableApplicationContext context;
+    private ITaskService service;
+    private String middleCursor;
+
+    @State(Scope.Benchmark)
+    public static class Filter {
+
+        @Param({"none", "status", "user", "user+status"})
+        private String shape;
+
+        private TaskStatus status;
+        private Long userId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            status = shape.contains("status") ? TaskStatus.EM_ANDAMENTO : null;
+            userId = shape.contains("user") ? 7L : null;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        PostgresTestDatabase database = PostgresTestDatabase.named(DATABASE);
+        database.flyway(50).migrate();
+        seed(database);
+
+        context = new SpringApplicationBuilder(TaskServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                // Argumentos, e não propriedades padrão, para prevalecer sobre o H2 do perfil de teste
+                .run("--spring.datasource.url=" + database.url(),
+                        "--spring.datasource.username=" + database.username(),
+                        "--spring.datasource.password=" + database.password(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect");
+        service = context.getBean(ITaskService.class);
+        if (service.findTasksPage(null, null, null, PAGE_SIZE).content().size() != PAGE_SIZE) {
+            throw new IllegalStateException("A aplicação não está usando o banco " + DATABASE);
+        }
+
+        // Cursor no meio da ordenação: metade das tarefas de cada formato fica antes dele
+        long middle = rows / 2;
+        middleCursor = new TaskCursor(FIRST_CREATED_AT.minusSeconds(middle), middle).encode();
+    }
+
+    /**
+     * Tarefa {@code g} (1..rows): criada {@code g} segundos antes de {@link #FIRST_CREATED_AT},
+     * do usuário {@code g % USERS + 1} e com o status {@code g % 3}.
+     */
+    private void seed(PostgresTestDatabase database) throws SQLException {
+        try (Connection connection = database.connect(); Statement statement = connection.createStatement()) {
+            try (ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM tasks")) {
+                count.next();
+                if (count.getLong(1) == rows) {
+                    return;
+                }
+            }
+            statement.execute("TRUNCATE tasks");
+            for (long from = 1; from <= rows; from += SEED_CHUNK) {
+                long to = Math.min(from + SEED_CHUNK - 1, rows);
+                statement.execute("""
+                        INSERT INTO tasks (id, created_at, deadline, description, status, title, user_id, version)
+                        SELECT g,
+                               timestamp '%s' - g * interval '1 second',
+                               timestamp '%s' + (g %% 30) * interval '1 day',
+                               'Descrição da tarefa ' || g,
+                               (ARRAY['PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDO'])[g %% 3 + 1],
+                               'Tarefa ' || g,
+                               g %% %d + 1,
+                               0
+                        FROM generate_series(%d, %d) g
+                        """.formatted(FIRST_CREATED_AT, FIRST_CREATED_AT, USERS, from, to));
+                System.out.printf("%d/%d tarefas semeadas%n", to, rows);
+            }
+            statement.execute("SELECT setval('tasks_seq', " + rows + " + 50, false)");
+            statement.execute("VACUUM ANALYZE tasks");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<TaskEntity> firstPage(Filter filter) {
+        return service.findTasksPage(filter.status, filter.userId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<TaskEntity> secondPage(Filter filter) {
+        CursorPage<TaskEntity> first = service.findTasksPage(filter.status, filter.userId, null, PAGE_SIZE);
+        return service.findTasksPage(filter.status, filter.userId, first.nextCursor(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<TaskEntity> middlePage(Filter filter) {
+        return service.findTasksPage(filter.status, filter.userId, middleCursor, PAGE_SIZE);
+    }
+
+}
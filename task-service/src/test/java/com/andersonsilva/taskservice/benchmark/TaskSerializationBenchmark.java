@@ -0,0 +1,83 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.taskservice.application.dto.TaskResponseDTO;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de listas de {@link TaskResponseDTO}, com as datas no formato
+ * {@code dd/MM/yyyy HH:mm:ss} do {@code @JsonFormat}, usando um ObjectMapper configurado
+ * como o do Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int size;
+
+    private List<TaskResponseDTO> tasks;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= size; i++) {
+            tasks.add(new TaskResponseDTO(
+                    i,
+                    i % 10,
+                    "Tarefa " + i,
+                    "Descrição da tarefa " + i,
+                    TaskStatus.values()[(int) (i % 3)],
+                    now.minusMinutes(i),
+                    now.plusDays(i)
+            ));
+        }
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    /**
+     * Uma linha por tarefa, como na exportação NDJSON.
+     */
+    @Benchmark
+    public byte[] serializeNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (TaskResponseDTO task : tasks) {
+            out.write(objectMapper.writeValueAsBytes(task));
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+}
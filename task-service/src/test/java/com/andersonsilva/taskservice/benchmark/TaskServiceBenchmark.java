@@ -0,0 +1,125 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.taskservice.TaskServiceApplication;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.KnownUserRepository;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.application.service.ITaskService;
+import com.andersonsilva.taskservice.domain.KnownUserEntity;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos de listagem e criação do {@link ITaskService} com o contexto Spring completo sobre o
+ * H2 do perfil {@code test}. A listagem cobre cada formato de filtro, que gera uma consulta
+ * diferente em {@code TaskQueryRepositoryImpl}. Os usuários são semeados na projeção local,
+ * então nenhuma chamada ao user-service é feita.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int USERS = 20;
+    private static final int TASKS = 20_000;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private ITaskService service;
+
+    @State(Scope.Benchmark)
+    public static class Filter {
+
+        @Param({"none", "status", "user", "user+status"})
+        private String shape;
+
+        private TaskStatus status;
+        private Long userId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            status = shape.contains("status") ? TaskStatus.EM_ANDAMENTO : null;
+            userId = shape.contains("user") ? 7L : null;
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        service = context.getBean(ITaskService.class);
+
+        List<KnownUserEntity> users = new ArrayList<>(USERS);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(KnownUserEntity.builder()
+                    .id(id)
+                    .name("Usuário " + id)
+                    .email("usuario" + id + "@example.com")
+                    .build());
+        }
+        context.getBean(KnownUserRepository.class).saveAll(users);
+
+        List<TaskEntity> tasks = new ArrayList<>(TASKS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(TaskEntity.builder()
+                    .userId((long) (i % USERS) + 1)
+                    .title("Tarefa " + i)
+                    .description("Descrição da tarefa " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .deadline(now.plusDays(i % 30))
+                    .build());
+        }
+        context.getBean(TaskRepository.class).saveAll(tasks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<TaskEntity> firstPage(Filter filter) {
+        return service.findTasksPage(filter.status, filter.userId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<TaskEntity> secondPage(Filter filter) {
+        CursorPage<TaskEntity> first = service.findTasksPage(filter.status, filter.userId, null, PAGE_SIZE);
+        return service.findTasksPage(filter.status, filter.userId, first.nextCursor(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskEntity createTask() {
+        return service.createTask(3L, "Nova tarefa", "Criada pelo benchmark", LocalDateTime.now().plusDays(1));
+    }
+
+}
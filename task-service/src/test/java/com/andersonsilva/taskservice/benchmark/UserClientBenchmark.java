@@ -0,0 +1,97 @@
+package com.andersonsilva.taskservice.benchmark;
+
+import com.andersonsilva.taskservice.adapter.outbound.client.UserClient;
+import com.andersonsilva.taskservice.application.dto.UserDTO;
+import com.andersonsilva.taskservice.loadtest.UserServiceStub;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.codec.EncodeException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Chamadas por segundo do {@link UserClient} contra um user-service local
+ * ({@link UserServiceStub}), com o cliente padrão do Feign ({@code HttpURLConnection}) usado
+ * pelos dois serviços. Base de comparação para outro cliente HTTP; pela interface de loopback a
+ * abertura de conexões quase não custa, então a comparação deve ser feita na rede de destino.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class UserClientBenchmark {
+
+    private static final long USERS = 1_000;
+
+    private UserServiceStub userService;
+    private UserClient userClient;
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        userService = new UserServiceStub(USERS, Duration.ZERO);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        userClient = Feign.builder()
+                .client(new Client.Default(null, null))
+                .contract(new SpringMvcContract())
+                .options(new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, true))
+                .encoder((body, bodyType, template) -> {
+                    try {
+                        template.body(objectMapper.writeValueAsBytes(body), StandardCharsets.UTF_8);
+                    } catch (JsonProcessingException e) {
+                        throw new EncodeException(e.getMessage(), e);
+                    }
+                })
+                .decoder((response, type) -> objectMapper.readValue(
+                        response.body().asInputStream(), objectMapper.constructType(type)))
+                .target(UserClient.class, userService.baseUrl());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        userService.close();
+    }
+
+    @Benchmark
+    public UserDTO findById() {
+        return userClient.findById(nextId.incrementAndGet() % USERS + 1);
+    }
+
+    /**
+     * Lote de 100 IDs, o tamanho máximo usado pelo {@code UserBatchLoader}.
+     */
+    @Benchmark
+    public List<UserDTO> findAllById() {
+        long first = ThreadLocalRandom.current().nextLong(1, USERS - 100);
+        return userClient.findAllById(LongStream.range(first, first + 100).boxed().toList());
+    }
+
+}
@@ -0,0 +1,300 @@
+package com.andersonsilva.taskservice.loadtest;
+
+import com.andersonsilva.taskservice.TaskServiceApplication;
+import com.andersonsilva.taskservice.adapter.outbound.persistence.TaskRepository;
+import com.andersonsilva.taskservice.application.service.ITaskCounterService;
+import com.andersonsilva.taskservice.domain.TaskEntity;
+import com.andersonsilva.taskservice.domain.TaskStatus;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Teste de carga de ponta a ponta do task-service.
+ * <p>
+ * Sobe um {@link UserServiceStub} com a latência configurada, inicia a aplicação completa (Tomcat
+ * em porta aleatória, perfil {@code test}) apontando para ele, semeia as tarefas e, para cada
+ * cenário, mantém {@code load.concurrency} clientes fazendo requisições em laço fechado. Após o
+ * aquecimento, mede a vazão e os percentis de latência, imprime uma tabela e grava o resultado em
+ * JSON. Termina com código 1 se houver erros ou se o p99 de algum cenário passar de
+ * {@code load.max-p99}.
+ * <p>
+ * Executado por {@code mvn -Pload-test test}; os parâmetros são propriedades {@code load.*}
+ * (veja o perfil no pom.xml). Qualquer outra propriedade do Spring pode ser passada em
+ * {@code load.jvm-args}, por exemplo {@code -Dspring.threads.virtual.enabled=true}.
+ */
+public final class LoadTestRunner {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskStatus[] EDITABLE_STATUSES = {TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO};
+
+    private final int users;
+    private final int tasks;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration userLatency;
+    private final List<String> scenarios;
+    private final Duration maxP99;
+    private final Path resultFile;
+
+    private HttpClient client;
+    private String baseUrl;
+    private long[] editableTaskIds;
+
+    private LoadTestRunner() {
+        users = Integer.getInteger("load.users", 100);
+        tasks = Integer.getInteger("load.tasks", 10_000);
+        concurrency = Integer.getInteger("load.concurrency", 64);
+        warmup = duration("load.warmup", "5s");
+        duration = duration("load.duration", "20s");
+        userLatency = duration("load.user-latency", "20ms");
+        scenarios = Arrays.stream(System.getProperty("load.scenarios", "list,create,update,count").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        String maxP99Property = System.getProperty("load.max-p99", "");
+        maxP99 = maxP99Property.isBlank() ? null : DurationStyle.detectAndParse(maxP99Property);
+        resultFile = Path.of(System.getProperty("load.result-file", "target/load-test-result.json"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new LoadTestRunner().run());
+    }
+
+    private int run() throws Exception {
+        try (UserServiceStub stub = new UserServiceStub(users, userLatency);
+             ConfigurableApplicationContext context = start(stub);
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            seed(context);
+            client = HttpClient.newBuilder()
+                    .executor(workers)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            System.out.printf("%n%d tarefas, %d usuários, %d clientes, latência do user-service %s%n%n",
+                    tasks, users, concurrency, userLatency);
+            System.out.println(ScenarioResult.header());
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (String scenario : scenarios) {
+                ScenarioResult result = runScenario(scenario, workers);
+                results.add(result);
+                System.out.println(result.toRow());
+            }
+            System.out.printf("%nchamadas ao user-service: %d%n", stub.requests());
+
+            write(results);
+            return verify(results);
+        }
+    }
+
+    private ConfigurableApplicationContext start(UserServiceStub stub) {
+        return new SpringApplicationBuilder(TaskServiceApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--spring.cloud.openfeign.client.config.user-service.url=" + stub.baseUrl());
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        List<TaskEntity> seed = new ArrayList<>(tasks);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < tasks; i++) {
+            seed.add(TaskEntity.builder()
+                    .userId((long) (i % users) + 1)
+                    .title("Tarefa " + i)
+                    .description("Tarefa semeada para o teste de carga")
+                    .status(STATUSES[i % STATUSES.length])
+                    .deadline(now.plusDays(i % 30))
+                    .build());
+        }
+        editableTaskIds = context.getBean(TaskRepository.class).saveAll(seed)
+                .stream()
+                .filter(task -> task.getStatus() != TaskStatus.CONCLUIDO)
+                .mapToLong(TaskEntity::getId)
+                .toArray();
+        context.getBean(ITaskCounterService.class).reconcile();
+    }
+
+    private ScenarioResult runScenario(String scenario, ExecutorService workers) throws Exception {
+        RequestFactory requests = requestsFor(scenario);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        Map<String, LongAdder> errorsByCause = new ConcurrentSkipListMap<>();
+        Map<String, String> errorSamples = new ConcurrentSkipListMap<>();
+
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int clientIndex = i;
+            futures.add(workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long[] latencies = new long[1024];
+                int count = 0;
+                for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+                    HttpRequest request = requests.next(clientIndex, random);
+                    String error;
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        boolean ok = response.statusCode() >= 200 && response.statusCode() < 300;
+                        error = ok ? null : "HTTP " + response.statusCode();
+                        if (!ok) {
+                            errorSamples.putIfAbsent(error, response.body());
+                        }
+                    } catch (IOException e) {
+                        error = e.getClass().getSimpleName();
+                    }
+                    long finished = System.nanoTime();
+                    if (now < measureFrom) {
+                        continue;
+                    }
+                    if (error != null) {
+                        errors.incrementAndGet();
+                        errorsByCause.computeIfAbsent(error, cause -> new LongAdder()).increment();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = finished - now;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perWorker = new ArrayList<>(concurrency);
+        for (Future<long[]> future : futures) {
+            perWorker.add(future.get());
+        }
+        long[] all = perWorker.stream().flatMapToLong(Arrays::stream).toArray();
+        errorsByCause.forEach((cause, count) -> System.out.printf("  %s: %d x %s %s%n",
+                scenario, count.sum(), cause, errorSamples.getOrDefault(cause, "")));
+        return ScenarioResult.of(scenario, errors.get(), duration, all);
+    }
+
+    private RequestFactory requestsFor(String scenario) {
+        return switch (scenario) {
+            case "list" -> (client, random) -> get(listQuery(random));
+            case "create" -> (client, random) -> send("POST", "/api/tasks", """
+                    {"userId": %d, "title": "Tarefa de carga", "description": "Criada pelo teste de carga"}
+                    """.formatted(randomUser(random)));
+            case "update" -> {
+                if (editableTaskIds.length < concurrency) {
+                    throw new IllegalStateException("O cenário update exige ao menos uma tarefa editável por cliente: "
+                            + editableTaskIds.length + " tarefas para " + concurrency + " clientes");
+                }
+                yield (client, random) -> updateRequest(client, random);
+            }
+            case "count" -> (client, random) -> get("/api/tasks/count/by-user/" + randomUser(random));
+            default -> throw new IllegalArgumentException("Cenário desconhecido: " + scenario);
+        };
+    }
+
+    /**
+     * Cada cliente altera apenas as tarefas da sua fatia ({@code índice % concurrency == client}): duas
+     * requisições simultâneas nunca disputam a mesma tarefa, e um 409 do {@code @Version} é regressão.
+     */
+    private HttpRequest updateRequest(int client, ThreadLocalRandom random) {
+        int sliceSize = (editableTaskIds.length - client + concurrency - 1) / concurrency;
+        long id = editableTaskIds[client + concurrency * random.nextInt(sliceSize)];
+        TaskStatus status = EDITABLE_STATUSES[random.nextInt(EDITABLE_STATUSES.length)];
+        return send("PUT", "/api/tasks/" + id, """
+                {"userId": %d, "title": "Tarefa atualizada", "status": "%s"}
+                """.formatted(randomUser(random), status));
+    }
+
+    private String listQuery(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/tasks?limit=50");
+        if (random.nextBoolean()) {
+            query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+        }
+        if (random.nextBoolean()) {
+            query.append("&userId=").append(randomUser(random));
+        }
+        return query.toString();
+    }
+
+    private long randomUser(ThreadLocalRandom random) {
+        return random.nextInt(users) + 1;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void write(List<ScenarioResult> results) throws IOException {
+        String json = results.stream()
+                .map(ScenarioResult::toJson)
+                .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+        if (resultFile.getParent() != null) {
+            Files.createDirectories(resultFile.getParent());
+        }
+        Files.writeString(resultFile, json);
+        System.out.println("resultado gravado em " + resultFile.toAbsolutePath());
+    }
+
+    private int verify(List<ScenarioResult> results) {
+        int exitCode = 0;
+        for (ScenarioResult result : results) {
+            if (result.errors() > 0) {
+                System.out.printf("%s: %d requisições com erro%n", result.name(), result.errors());
+                exitCode = 1;
+            }
+            if (maxP99 != null && result.percentile(99).compareTo(maxP99) > 0) {
+                System.out.printf("%s: p99 de %d ms acima do limite de %d ms%n",
+                        result.name(), result.percentile(99).toMillis(), maxP99.toMillis());
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+
+        HttpRequest next(int client, ThreadLocalRandom random);
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.andersonsilva.taskservice.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Vazão e percentis de latência de um cenário, calculados a partir de todas as latências
+ * medidas (em nanossegundos) durante a janela de medição.
+ */
+record ScenarioResult(
+        String name,
+        long requests,
+        long errors,
+        Duration elapsed,
+        long[] sortedLatencies
+) {
+
+    static ScenarioResult of(String name, long errors, Duration elapsed, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new ScenarioResult(name, sorted.length, errors, elapsed, sorted);
+    }
+
+    double throughput() {
+        return requests / (elapsed.toNanos() / 1e9);
+    }
+
+    Duration percentile(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return Duration.ofNanos(sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))]);
+    }
+
+    Duration max() {
+        return sortedLatencies.length == 0 ? Duration.ZERO : Duration.ofNanos(sortedLatencies[sortedLatencies.length - 1]);
+    }
+
+    String toRow() {
+        return String.format(Locale.ROOT, "%-8s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f %10.2f",
+                name, requests, errors, throughput(),
+                millis(percentile(50)), millis(percentile(90)), millis(percentile(99)),
+                millis(percentile(99.9)), millis(max()));
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"scenario\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,"
+                        + "\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}",
+                name, requests, errors, throughput(),
+                millis(percentile(50)), millis(percentile(90)), millis(percentile(99)),
+                millis(percentile(99.9)), millis(max()));
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-8s %10s %8s %12s %10s %10s %10s %10s %10s",
+                "cenário", "requests", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+}
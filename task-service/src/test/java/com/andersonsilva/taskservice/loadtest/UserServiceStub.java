@@ -0,0 +1,123 @@
+package com.andersonsilva.taskservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Substituto local do user-service para testes de carga e benchmarks. Conhece os usuários de 1 a {@code users}
+ * e responde, após a latência configurada, às rotas que o task-service consome:
+ * {@code GET /api/users/{id}}, {@code POST /api/users/batch} e {@code GET /api/users/events}
+ * (sempre vazio).
+ */
+public class UserServiceStub implements AutoCloseable {
+
+    private static final Pattern USER_PATH = Pattern.compile("/api/users/(\\d+)");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    static {
+        // Sem TCP_NODELAY o HttpServer do JDK envia cabeçalhos e corpo em segmentos separados e cada
+        // resposta espera o ACK atrasado do cliente (~40 ms), o que dominaria qualquer medição.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final long users;
+    private final Duration latency;
+    private final AtomicLong requests = new AtomicLong();
+
+    public UserServiceStub(long users, Duration latency) throws IOException {
+        this.users = users;
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/api/users", this::handle);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            pause();
+            String path = exchange.getRequestURI().getPath();
+            Matcher single = USER_PATH.matcher(path);
+
+            if ("GET".equals(exchange.getRequestMethod()) && single.matches()) {
+                long id = Long.parseLong(single.group(1));
+                if (id < 1 || id > users) {
+                    send(exchange, 404, "{\"message\":\"Usuário não encontrado\"}");
+                } else {
+                    send(exchange, 200, userJson(id));
+                }
+            } else if ("POST".equals(exchange.getRequestMethod()) && path.equals("/api/users/batch")) {
+                send(exchange, 200, batchJson(exchange.getRequestBody()));
+            } else if ("GET".equals(exchange.getRequestMethod()) && path.equals("/api/users/events")) {
+                send(exchange, 200, "[]");
+            } else {
+                send(exchange, 404, "{}");
+            }
+        }
+    }
+
+    private void pause() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String batchJson(InputStream body) throws IOException {
+        Matcher ids = NUMBER.matcher(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        List<String> found = new ArrayList<>();
+        while (ids.find()) {
+            long id = Long.parseLong(ids.group());
+            if (id >= 1 && id <= users) {
+                found.add(userJson(id));
+            }
+        }
+        return "[" + String.join(",", found) + "]";
+    }
+
+    private static String userJson(long id) {
+        return "{\"id\":%d,\"name\":\"Usuário %d\",\"email\":\"usuario%d@example.com\"}".formatted(id, id, id);
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
@@ -1,11 +1,15 @@
 package com.andersonsilva.userservice;
 
+import com.andersonsilva.shared.feign.FeignMetricsConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableFeignClients(basePackages = "com.andersonsilva.userservice.adapter.outbound.client")
+@EnableFeignClients(basePackages = "com.andersonsilva.userservice.adapter.outbound.client",
+		defaultConfiguration = FeignMetricsConfig.class)
+@EnableScheduling
 public class UserServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,21 +1,27 @@
 package com.andersonsilva.userservice.adapter.inbound.controller;
 
+import com.andersonsilva.userservice.application.dto.UserEventDTO;
 import com.andersonsilva.userservice.application.dto.UserRequestDTO;
 import com.andersonsilva.userservice.application.dto.UserResponseDTO;
+import com.andersonsilva.userservice.domain.UserSort;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
 public interface IUserController {
 
-    ResponseEntity<List<UserResponseDTO>> getAll();
+    ResponseEntity<List<UserResponseDTO>> getAll(UserSort sort, String cursor, int limit, boolean includeTotal);
 
     ResponseEntity<UserResponseDTO> getById(Long id);
 
+    ResponseEntity<List<UserResponseDTO>> getByIds(List<Long> ids);
+
     ResponseEntity<UserResponseDTO> create(UserRequestDTO dto);
 
-    ResponseEntity<UserResponseDTO> update(Long id, UserRequestDTO dto);
+    ResponseEntity<UserResponseDTO> update(Long id, String ifMatch, UserRequestDTO dto);
+
+    ResponseEntity<Void> delete(Long id, String ifMatch);
 
-    ResponseEntity<Void> delete(Long id);
+    ResponseEntity<List<UserEventDTO>> getEvents(Long after, int limit);
 
 }
\ No newline at end of file
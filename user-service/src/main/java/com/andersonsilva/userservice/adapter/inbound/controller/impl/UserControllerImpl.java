@@ -1,18 +1,25 @@
 package com.andersonsilva.userservice.adapter.inbound.controller.impl;
 
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.shared.web.ETags;
 import com.andersonsilva.userservice.adapter.inbound.controller.IUserController;
+import com.andersonsilva.userservice.application.dto.UserEventDTO;
 import com.andersonsilva.userservice.application.dto.UserRequestDTO;
 import com.andersonsilva.userservice.application.dto.UserResponseDTO;
+import com.andersonsilva.userservice.application.mapper.UserMapper;
+import com.andersonsilva.userservice.application.service.IUserEventService;
 import com.andersonsilva.userservice.application.service.IUserService;
 import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserSort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -21,37 +28,67 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserControllerImpl implements IUserController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String OLDEST_EVENT_POSITION_HEADER = "X-Oldest-Event-Position";
+
     private final IUserService service;
-    private final ModelMapper mapper;
+    private final IUserEventService eventService;
 
-    public UserControllerImpl(IUserService service, ModelMapper mapper) {
+    public UserControllerImpl(IUserService service, IUserEventService eventService) {
         this.service = service;
-        this.mapper = mapper;
+        this.eventService = eventService;
     }
 
     @Override
     @Operation(
-            summary = "Listar todos os usuários",
-            description = "Retorna uma lista de todos os usuários cadastrados no sistema",
+            summary = "Listar usuários",
+            description = "Retorna uma página de usuários ordenados por nome ou do mais recente para o mais antigo. "
+                    + "Quando houver mais resultados, o cursor da próxima página é informado nos cabeçalhos Link "
+                    + "(rel=\"next\") e X-Next-Cursor. O total de usuários só é calculado quando solicitado, "
+                    + "no cabeçalho X-Total-Count",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso")
+                    @ApiResponse(responseCode = "200", description = "Página de usuários retornada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou limite inválido")
             }
     )
     @GetMapping
-    public ResponseEntity<List<UserResponseDTO>> getAll() {
-        List<UserResponseDTO> list = service.findAll()
-                .stream()
-                .map(user -> mapper.map(user, UserResponseDTO.class))
-                .toList();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<List<UserResponseDTO>> getAll(
+            @Parameter(description = "Ordenação: NAME (nome, padrão) ou CREATED_AT (mais recentes primeiro)")
+            @RequestParam(defaultValue = "NAME") UserSort sort,
+
+            @Parameter(description = "Cursor opaco retornado pela página anterior, com a mesma ordenação")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Quantidade máxima de usuários na página (1 a 200)")
+            @RequestParam(defaultValue = "50") int limit,
+
+            @Parameter(description = "Se verdadeiro, informa o total de usuários no cabeçalho X-Total-Count")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPage<UserEntity> page = service.findPage(sort, cursor, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (includeTotal) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(service.count()));
+        }
+        return response.body(UserMapper.toResponse(page.content()));
     }
 
     @Override
     @Operation(
             summary = "Obter usuário por ID",
-            description = "Retorna os dados de um único usuário identificado pelo seu ID",
+            description = "Retorna os dados de um único usuário identificado pelo seu ID. A resposta traz a versão "
+                    + "do usuário no cabeçalho ETag; com If-None-Match igual a ela, responde 304 sem corpo",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Usuário encontrado"),
+                    @ApiResponse(responseCode = "304", description = "Usuário não mudou desde a ETag informada"),
                     @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
             }
     )
@@ -59,8 +96,30 @@ public class UserControllerImpl implements IUserController {
     public ResponseEntity<UserResponseDTO> getById(
             @Parameter(description = "ID do usuário", required = true)
             @PathVariable Long id) {
+        // Com If-None-Match igual à ETag, o Spring MVC responde 304 sem serializar o corpo
         UserEntity user = service.findById(id);
-        return ResponseEntity.ok(mapper.map(user, UserResponseDTO.class));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(user.getVersion()))
+                .body(UserMapper.toResponse(user));
+    }
+
+    @Override
+    @Operation(
+            summary = "Obter usuários por IDs",
+            description = "Retorna, em uma única chamada, os usuários cujos IDs foram informados. "
+                    + "IDs inexistentes são omitidos da resposta",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Usuários encontrados"),
+                    @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do permitido")
+            }
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "IDs dos usuários (no máximo 500)", required = true
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserResponseDTO>> getByIds(@RequestBody List<Long> ids) {
+        List<UserResponseDTO> list = UserMapper.toResponse(service.findAllById(ids));
+        return ResponseEntity.ok(list);
     }
 
     @Override
@@ -79,7 +138,7 @@ public class UserControllerImpl implements IUserController {
     public ResponseEntity<UserResponseDTO> create(
             @Valid @RequestBody UserRequestDTO dto) {
         UserEntity created = service.createUser(dto.name(), dto.email());
-        return ResponseEntity.status(201).body(mapper.map(created, UserResponseDTO.class));
+        return ResponseEntity.status(201).body(UserMapper.toResponse(created));
     }
 
     @Override
@@ -89,7 +148,9 @@ public class UserControllerImpl implements IUserController {
             responses = {
                     @ApiResponse(responseCode = "200", description = "Usuário atualizado com sucesso"),
                     @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos ou email duplicado"),
-                    @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+                    @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+                    @ApiResponse(responseCode = "409", description = "Usuário alterado por outra requisição durante a atualização"),
+                    @ApiResponse(responseCode = "412", description = "Usuário alterado desde a ETag informada em If-Match")
             }
     )
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -99,9 +160,13 @@ public class UserControllerImpl implements IUserController {
     public ResponseEntity<UserResponseDTO> update(
             @Parameter(description = "ID do usuário a ser atualizado", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag obtida na consulta; se informada, a operação só é feita se o usuário não mudou")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UserRequestDTO dto) {
-        UserEntity updated = service.updateUser(id, dto.name(), dto.email());
-        return ResponseEntity.ok(mapper.map(updated, UserResponseDTO.class));
+        UserEntity updated = service.updateUser(id, dto.name(), dto.email(), ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updated.getVersion()))
+                .body(UserMapper.toResponse(updated));
     }
 
     @Override
@@ -111,15 +176,43 @@ public class UserControllerImpl implements IUserController {
             responses = {
                     @ApiResponse(responseCode = "204", description = "Usuário excluído com sucesso"),
                     @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
-                    @ApiResponse(responseCode = "400", description = "Não é possível excluir usuário com tarefas associadas")
+                    @ApiResponse(responseCode = "400", description = "Não é possível excluir usuário com tarefas associadas"),
+                    @ApiResponse(responseCode = "412", description = "Usuário alterado desde a ETag informada em If-Match")
             }
     )
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @Parameter(description = "ID do usuário a ser excluído", required = true)
-            @PathVariable Long id) {
-        service.deleteUser(id);
+            @PathVariable Long id,
+            @Parameter(description = "ETag obtida na consulta; se informada, a operação só é feita se o usuário não mudou")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.deleteUser(id, ETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @Operation(
+            summary = "Listar eventos de usuários",
+            description = "Retorna, em ordem, os eventos de criação, atualização e exclusão de usuários posteriores "
+                    + "à posição informada. Usado por outros serviços para manter uma cópia local dos usuários. "
+                    + "As posições são contínuas e seguem a ordem de commit. Se eventos posteriores à posição já "
+                    + "foram removidos pela retenção, responde 410 e informa no cabeçalho X-Oldest-Event-Position "
+                    + "de onde retomar depois de sincronizar todos os usuários",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Eventos retornados com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Limite inválido"),
+                    @ApiResponse(responseCode = "410", description = "Eventos posteriores à posição já foram removidos")
+            }
+    )
+    @GetMapping("/events")
+    public ResponseEntity<List<UserEventDTO>> getEvents(
+            @Parameter(description = "Posição do último evento já processado")
+            @RequestParam(defaultValue = "0") Long after,
+
+            @Parameter(description = "Quantidade máxima de eventos (1 a 1000)")
+            @RequestParam(defaultValue = "500") int limit) {
+        List<UserEventDTO> events = UserMapper.toEvents(eventService.findEventsAfter(after, limit));
+        return ResponseEntity.ok(events);
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.andersonsilva.userservice.adapter.inbound.scheduler;
+
+import com.andersonsilva.userservice.application.service.IUserEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class UserEventPurgeJob {
+
+    private final IUserEventService eventService;
+    private final Duration retention;
+
+    public UserEventPurgeJob(IUserEventService eventService,
+                             @Value("${users.events.retention:7d}") Duration retention) {
+        this.eventService = eventService;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${users.events.purge-cron:0 0 3 * * *}")
+    public void purge() {
+        int removed = eventService.purgeEventsBefore(LocalDateTime.now().minus(retention));
+        log.info("{} eventos de usuário removidos do outbox", removed);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.andersonsilva.userservice.adapter.outbound.cache;
+
+import com.andersonsilva.userservice.config.CacheConfig;
+import com.andersonsilva.userservice.domain.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cache {@value CacheConfig#USERS_CACHE} das leituras de usuário por ID.
+ * <p>
+ * Guarda cópias imutáveis ({@link CachedUser}), nunca a entidade gerenciada, e só substitui uma
+ * entrada por outra de versão maior. As gravações colocam a versão nova no cache após o commit, e
+ * a exclusão deixa uma marca de removido; assim uma leitura que começou antes de uma alteração
+ * concorrente não consegue recolocar a linha antiga. Resta uma janela apenas se a versão nova for
+ * descartada pelo limite de tamanho entre o commit e a gravação da leitura antiga, limitada pelo
+ * TTL do cache.
+ */
+@Component
+public class UserCache {
+
+    private final org.springframework.cache.Cache cache;
+    private final Cache<Object, Object> entries;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public UserCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.USERS_CACHE);
+        this.entries = (Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    /**
+     * Entrada do usuário, ou {@code null} se não estiver no cache. Conta acerto ou falha nas
+     * métricas do cache.
+     */
+    public CachedUser get(Long id) {
+        return cache.get(id, CachedUser.class);
+    }
+
+    /**
+     * Guarda o usuário lido do banco, a menos que o cache já tenha uma versão igual ou mais nova.
+     */
+    public void putIfNewer(UserEntity user) {
+        putIfNewer(CachedUser.of(user));
+    }
+
+    /**
+     * Guarda a versão gravada após o commit da transação atual; sem transação, imediatamente.
+     */
+    public void putAfterCommit(UserEntity user) {
+        afterCommit(CachedUser.of(user));
+    }
+
+    /**
+     * Marca o usuário como removido após o commit da transação atual, com versão maior que a de
+     * qualquer leitura anterior à exclusão.
+     */
+    public void removeAfterCommit(UserEntity user) {
+        afterCommit(CachedUser.deleted(user));
+    }
+
+    private void afterCommit(CachedUser entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putIfNewer(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putIfNewer(entry);
+            }
+        });
+    }
+
+    private void putIfNewer(CachedUser entry) {
+        entries.asMap().compute(entry.id(), (id, current) ->
+                current instanceof CachedUser cached && cached.version() >= entry.version() ? cached : entry);
+    }
+
+    /**
+     * Cópia imutável do usuário no cache. {@code deleted} marca um usuário excluído.
+     */
+    public record CachedUser(
+            Long id,
+            String name,
+            String email,
+            LocalDateTime createdAt,
+            long version,
+            boolean deleted
+    ) {
+
+        static CachedUser of(UserEntity user) {
+            return new CachedUser(user.getId(), user.getName(), user.getEmail(), user.getCreatedAt(),
+                    user.getVersion(), false);
+        }
+
+        static CachedUser deleted(UserEntity user) {
+            return new CachedUser(user.getId(), null, null, null, user.getVersion() + 1, true);
+        }
+
+        /**
+         * Nova entidade, desanexada, com os dados desta entrada.
+         */
+        public UserEntity toEntity() {
+            return UserEntity.builder()
+                    .id(id)
+                    .name(name)
+                    .email(email)
+                    .createdAt(createdAt)
+                    .version(version)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.andersonsilva.userservice.adapter.outbound.client;
+
+import com.andersonsilva.userservice.application.exception.TaskServiceUnavailableException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acesso ao task-service protegido por um bulkhead e por um circuit breaker, ambos configurados
+ * em {@code resilience4j.*.instances.task-service}. Timeouts, erros 5xx, circuito aberto e
+ * bulkhead cheio viram {@link TaskServiceUnavailableException}.
+ */
+@Component
+public class TaskServiceGateway {
+
+    public static final String TASK_SERVICE = "task-service";
+
+    private final TaskClient taskClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Autowired
+    public TaskServiceGateway(TaskClient taskClient,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              BulkheadRegistry bulkheadRegistry) {
+        this.taskClient = taskClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(TASK_SERVICE);
+        this.bulkhead = bulkheadRegistry.bulkhead(TASK_SERVICE);
+    }
+
+    public long countTasksByUserId(Long userId) {
+        try {
+            return circuitBreaker.executeSupplier(
+                    Bulkhead.decorateSupplier(bulkhead, () -> taskClient.countTasksByUserId(userId)));
+        } catch (CallNotPermittedException | BulkheadFullException | RetryableException
+                 | FeignException.FeignServerException e) {
+            throw new TaskServiceUnavailableException(e);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.andersonsilva.userservice.adapter.outbound.persistence;
+
+import com.andersonsilva.userservice.domain.UserEventPositionEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserEventPositionRepository extends JpaRepository<UserEventPositionEntity, String> {
+
+    /**
+     * Contador do stream, com a linha bloqueada até o fim da transação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM UserEventPositionEntity p WHERE p.stream = :stream")
+    UserEventPositionEntity lockStream(@Param("stream") String stream);
+
+    @Query("SELECT p.lastPosition FROM UserEventPositionEntity p WHERE p.stream = :stream")
+    long findLastPosition(@Param("stream") String stream);
+
+}
@@ -0,0 +1,32 @@
+package com.andersonsilva.userservice.adapter.outbound.persistence;
+
+import com.andersonsilva.userservice.domain.UserEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserEventRepository extends JpaRepository<UserEventEntity, Long> {
+
+    List<UserEventEntity> findByPositionGreaterThanOrderByPositionAsc(Long position, Limit limit);
+
+    boolean existsByPositionIsNull();
+
+    List<UserEventEntity> findByPositionIsNullOrderByIdAsc(Limit limit);
+
+    @Query("SELECT MIN(e.position) FROM UserEventEntity e")
+    Long findOldestPosition();
+
+    @Modifying
+    @Query("""
+                DELETE FROM UserEventEntity e
+                WHERE e.occurredAt < :occurredAt
+                  AND e.position < (SELECT MAX(l.position) FROM UserEventEntity l)
+            """)
+    int deleteOlderThan(@Param("occurredAt") LocalDateTime occurredAt);
+
+}
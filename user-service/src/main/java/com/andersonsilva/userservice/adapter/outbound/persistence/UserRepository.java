@@ -1,14 +1,44 @@
 package com.andersonsilva.userservice.adapter.outbound.persistence;
 
 import com.andersonsilva.userservice.domain.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
-    boolean existsByEmail(String email);
-
     Optional<UserEntity> findByEmail(String email);
 
+    List<UserEntity> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    /**
+     * Próxima página por (name, id) crescente; percorre o índice {@code idx_users_name_id}
+     * a partir da posição do cursor.
+     */
+    @Query("""
+                SELECT u FROM UserEntity u
+                WHERE u.name >= :name AND (u.name > :name OR u.id > :id)
+                ORDER BY u.name, u.id
+            """)
+    List<UserEntity> findPageAfterName(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    List<UserEntity> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    /**
+     * Próxima página por (createdAt, id) decrescente; percorre o índice {@code idx_users_created_at_id}
+     * a partir da posição do cursor.
+     */
+    @Query("""
+                SELECT u FROM UserEntity u
+                WHERE u.createdAt <= :createdAt AND (u.createdAt < :createdAt OR u.id < :id)
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserEntity> findPageBeforeCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Limit limit);
+
 }
@@ -0,0 +1,60 @@
+package com.andersonsilva.userservice.application.dto;
+
+import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de continuação da listagem de usuários: a chave de ordenação (nome ou data de criação)
+ * e o ID do último usuário da página. Trafega para o cliente como um token opaco em Base64
+ * URL-safe, que carrega também a ordenação para não ser reaproveitado em outra.
+ */
+public record UserCursor(UserSort sort, String key, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static UserCursor of(UserSort sort, UserEntity user) {
+        String key = sort == UserSort.NAME ? user.getName() : user.getCreatedAt().toString();
+        return new UserCursor(sort, key, user.getId());
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(key);
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException se o token estiver malformado ou tiver sido gerado para outra ordenação
+     */
+    public static UserCursor decode(String token, UserSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // O nome pode conter o separador: a ordenação vem antes do primeiro e o ID depois do último
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            UserCursor cursor = new UserCursor(
+                    UserSort.valueOf(raw.substring(0, first)),
+                    raw.substring(first + 1, last),
+                    Long.parseLong(raw.substring(last + 1))
+            );
+            if (cursor.sort() != expectedSort) {
+                throw new IllegalArgumentException("Cursor de outra ordenação");
+            }
+            if (expectedSort == UserSort.CREATED_AT) {
+                cursor.createdAt();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.andersonsilva.userservice.application.dto;
+
+import com.andersonsilva.userservice.domain.UserEventType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public record UserEventDTO(
+        Long id,
+        Long position,
+        Long userId,
+        UserEventType type,
+        String name,
+        String email,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime occurredAt
+) {}
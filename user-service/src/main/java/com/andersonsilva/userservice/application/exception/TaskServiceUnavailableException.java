@@ -0,0 +1,13 @@
+package com.andersonsilva.userservice.application.exception;
+
+/**
+ * O task-service não respondeu a tempo, retornou erro ou está com o circuito aberto. A operação
+ * que dependia dele não foi feita e pode ser repetida mais tarde.
+ */
+public class TaskServiceUnavailableException extends RuntimeException {
+
+    public TaskServiceUnavailableException(Throwable cause) {
+        super("Serviço de tarefas indisponível. Tente novamente em instantes", cause);
+    }
+
+}
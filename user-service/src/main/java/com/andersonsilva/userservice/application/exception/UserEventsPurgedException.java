@@ -0,0 +1,21 @@
+package com.andersonsilva.userservice.application.exception;
+
+import lombok.Getter;
+
+/**
+ * O consumidor pediu eventos a partir de uma posição que já saiu do outbox pela retenção. Os
+ * eventos seguintes não estão mais disponíveis e a cópia dele precisa ser refeita por inteiro;
+ * {@link #getOldestPosition()} indica de onde retomar o feed depois disso.
+ */
+@Getter
+public class UserEventsPurgedException extends RuntimeException {
+
+    private final long oldestPosition;
+
+    public UserEventsPurgedException(long after, long oldestPosition) {
+        super("Eventos posteriores à posição " + after + " já foram removidos. Sincronize todos os usuários "
+                + "e retome o feed a partir da posição " + oldestPosition);
+        this.oldestPosition = oldestPosition;
+    }
+
+}
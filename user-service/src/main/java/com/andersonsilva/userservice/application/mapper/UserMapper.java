@@ -0,0 +1,56 @@
+package com.andersonsilva.userservice.application.mapper;
+
+import com.andersonsilva.userservice.application.dto.UserEventDTO;
+import com.andersonsilva.userservice.application.dto.UserResponseDTO;
+import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventEntity;
+
+import java.util.List;
+
+/**
+ * Conversões entre entidades de usuário e DTOs de resposta, escritas à mão para que o caminho
+ * de resposta não dependa de reflexão.
+ */
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    public static UserResponseDTO toResponse(UserEntity user) {
+        return new UserResponseDTO(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getCreatedAt()
+        );
+    }
+
+    public static List<UserResponseDTO> toResponse(List<UserEntity> users) {
+        UserResponseDTO[] responses = new UserResponseDTO[users.size()];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = toResponse(users.get(i));
+        }
+        return List.of(responses);
+    }
+
+    public static UserEventDTO toEvent(UserEventEntity event) {
+        return new UserEventDTO(
+                event.getId(),
+                event.getPosition(),
+                event.getUserId(),
+                event.getType(),
+                event.getName(),
+                event.getEmail(),
+                event.getOccurredAt()
+        );
+    }
+
+    public static List<UserEventDTO> toEvents(List<UserEventEntity> events) {
+        UserEventDTO[] dtos = new UserEventDTO[events.size()];
+        for (int i = 0; i < dtos.length; i++) {
+            dtos[i] = toEvent(events.get(i));
+        }
+        return List.of(dtos);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.andersonsilva.userservice.application.service;
+
+import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventEntity;
+import com.andersonsilva.userservice.domain.UserEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IUserEventService {
+
+    void publish(UserEventType type, UserEntity user);
+
+    List<UserEventEntity> findEventsAfter(Long after, int limit);
+
+    int purgeEventsBefore(LocalDateTime occurredAt);
+
+}
@@ -1,19 +1,26 @@
 package com.andersonsilva.userservice.application.service;
 
+import com.andersonsilva.shared.dto.CursorPage;
 import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserSort;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IUserService {
 
-    List<UserEntity> findAll();
+    CursorPage<UserEntity> findPage(UserSort sort, String cursor, int limit);
+
+    long count();
 
     UserEntity findById(Long id);
 
+    List<UserEntity> findAllById(Collection<Long> ids);
+
     UserEntity createUser(String name, String email);
 
-    UserEntity updateUser(Long id, String name, String email);
+    UserEntity updateUser(Long id, String name, String email, Long expectedVersion);
 
-    void deleteUser(Long id);
+    void deleteUser(Long id, Long expectedVersion);
 
 }
@@ -0,0 +1,96 @@
+package com.andersonsilva.userservice.application.service.impl;
+
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventPositionRepository;
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventRepository;
+import com.andersonsilva.userservice.application.exception.UserEventsPurgedException;
+import com.andersonsilva.userservice.application.service.IUserEventService;
+import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventEntity;
+import com.andersonsilva.userservice.domain.UserEventPositionEntity;
+import com.andersonsilva.userservice.domain.UserEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class UserEventServiceImpl implements IUserEventService {
+
+    public static final int MAX_EVENTS_PER_PAGE = 1000;
+    public static final String USER_EVENTS_STREAM = "user-events";
+
+    private final UserEventRepository repository;
+    private final UserEventPositionRepository positionRepository;
+
+    @Autowired
+    public UserEventServiceImpl(UserEventRepository repository, UserEventPositionRepository positionRepository) {
+        this.repository = repository;
+        this.positionRepository = positionRepository;
+    }
+
+    /**
+     * Grava o evento ainda sem posição. A posição é atribuída por {@link #findEventsAfter} depois do
+     * commit, então gravações de usuário não disputam o contador do feed.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UserEventType type, UserEntity user) {
+        repository.save(UserEventEntity.of(type, user));
+    }
+
+    /**
+     * Eventos posteriores à posição {@code after}, em ordem. Antes da leitura numera os eventos já
+     * confirmados que ainda não têm posição, na ordem do id.
+     *
+     * @throws UserEventsPurgedException se eventos posteriores a {@code after} já foram removidos
+     *                                   pela retenção
+     */
+    @Override
+    @Transactional
+    public List<UserEventEntity> findEventsAfter(Long after, int limit) {
+        if (limit < 1 || limit > MAX_EVENTS_PER_PAGE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_EVENTS_PER_PAGE);
+        }
+        assignPositions();
+        Long oldest = repository.findOldestPosition();
+        if (oldest != null && after < oldest - 1) {
+            throw new UserEventsPurgedException(after, oldest);
+        }
+        return repository.findByPositionGreaterThanOrderByPositionAsc(after, Limit.of(limit));
+    }
+
+    /**
+     * Só quem tem o contador bloqueado numera eventos, e a busca dos pendentes é feita depois do
+     * bloqueio: um evento confirmado mais tarde recebe uma posição maior que todas as já visíveis,
+     * mesmo que o seu id seja menor. Assim as posições são contínuas e um consumidor nunca passa por
+     * cima de um evento.
+     */
+    private void assignPositions() {
+        if (!repository.existsByPositionIsNull()) {
+            return;
+        }
+        UserEventPositionEntity counter = positionRepository.lockStream(USER_EVENTS_STREAM);
+        long position = counter.getLastPosition();
+        for (UserEventEntity event : repository.findByPositionIsNullOrderByIdAsc(Limit.of(MAX_EVENTS_PER_PAGE))) {
+            event.setPosition(++position);
+        }
+        counter.setLastPosition(position);
+    }
+
+    /**
+     * Remove os eventos anteriores a {@code occurredAt}, mas sempre mantém o mais recente, para que
+     * um consumidor atrasado consiga perceber que perdeu eventos. Eventos ainda sem posição são
+     * numerados antes, como na leitura.
+     */
+    @Override
+    @Transactional
+    public int purgeEventsBefore(LocalDateTime occurredAt) {
+        assignPositions();
+        return repository.deleteOlderThan(occurredAt);
+    }
+
+}
@@ -1,79 +1,231 @@
 package com.andersonsilva.userservice.application.service.impl;
 
-import com.andersonsilva.userservice.adapter.outbound.client.TaskClient;
+import com.andersonsilva.shared.dto.CursorPage;
+import com.andersonsilva.shared.exception.PreconditionFailedException;
+import com.andersonsilva.userservice.adapter.outbound.cache.UserCache;
+import com.andersonsilva.userservice.adapter.outbound.client.TaskServiceGateway;
 import com.andersonsilva.userservice.adapter.outbound.persistence.UserRepository;
+import com.andersonsilva.userservice.application.dto.UserCursor;
+import com.andersonsilva.userservice.application.service.IUserEventService;
 import com.andersonsilva.userservice.application.service.IUserService;
 import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventType;
+import com.andersonsilva.userservice.domain.UserSort;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @Service
 public class UserServiceImpl implements IUserService {
 
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final String VERSION_CHANGED = "O usuário foi alterado por outra requisição";
+
+    /**
+     * Nome da restrição violada quando o email já existe: {@code ux_users_email_lower} no PostgreSQL;
+     * o H2 dos testes informa o índice que a sustenta, com esquema e sufixo
+     * ({@code PUBLIC.UX_USERS_EMAIL_LOWER_INDEX_4}).
+     */
+    private static final Pattern EMAIL_CONSTRAINT = Pattern.compile(
+            "(?i)(\\w+\\.)?" + UserEntity.EMAIL_UNIQUE_INDEX + "(_INDEX_\\d+)?");
+
     private final UserRepository repository;
-    private final TaskClient taskClient;
+    private final TaskServiceGateway taskService;
+    private final IUserEventService eventService;
+    private final UserCache userCache;
 
     @Autowired
-    public UserServiceImpl(UserRepository repository, TaskClient taskClient) {
+    public UserServiceImpl(UserRepository repository, TaskServiceGateway taskService, IUserEventService eventService,
+                           UserCache userCache) {
         this.repository = repository;
-        this.taskClient = taskClient;
+        this.taskService = taskService;
+        this.eventService = eventService;
+        this.userCache = userCache;
     }
 
     @Override
-    public List<UserEntity> findAll() {
-        return repository.findAll();
+    public CursorPage<UserEntity> findPage(UserSort sort, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        // Busca um registro a mais apenas para saber se existe próxima página
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<UserEntity> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = sort == UserSort.NAME
+                    ? repository.findAllByOrderByNameAscIdAsc(fetchLimit)
+                    : repository.findAllByOrderByCreatedAtDescIdDesc(fetchLimit);
+        } else {
+            UserCursor after = UserCursor.decode(cursor, sort);
+            users = sort == UserSort.NAME
+                    ? repository.findPageAfterName(after.key(), after.id(), fetchLimit)
+                    : repository.findPageBeforeCreatedAt(after.createdAt(), after.id(), fetchLimit);
+        }
+
+        if (users.size() <= limit) {
+            return new CursorPage<>(users, null);
+        }
+
+        List<UserEntity> content = users.subList(0, limit);
+        return new CursorPage<>(content, UserCursor.of(sort, content.get(limit - 1)).encode());
     }
 
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    /**
+     * Leitura mais frequente do serviço, feita pelo task-service a cada gravação de tarefa; servida
+     * do {@link UserCache}, que {@link #updateUser} e {@link #deleteUser} atualizam após o commit.
+     * Cada chamada recebe a própria entidade; a do cache nunca é compartilhada.
+     */
     @Override
     public UserEntity findById(Long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado"));
+        UserCache.CachedUser cached = userCache.get(id);
+        if (cached != null) {
+            if (cached.deleted()) {
+                throw userNotFound();
+            }
+            return cached.toEntity();
+        }
+        UserEntity user = loadUser(id);
+        userCache.putIfNewer(user);
+        return user;
+    }
+
+    /**
+     * IDs inexistentes são simplesmente omitidos do resultado; cabe ao chamador
+     * tratar os que faltarem.
+     */
+    @Override
+    public List<UserEntity> findAllById(Collection<Long> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Os IDs não podem ser nulos");
+        }
+        Set<Long> distinct = Set.copyOf(ids);
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_BATCH_SIZE + " IDs por consulta");
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(distinct);
     }
 
     @Override
     @Transactional
     public UserEntity createUser(String name, String email) {
-        if (repository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email já cadastrado");
-        }
         UserEntity user = UserEntity.builder()
                 .name(name)
                 .email(email)
                 .build();
 
-        return repository.save(user);
+        UserEntity saved = saveEnforcingUniqueEmail(user, null);
+        eventService.publish(UserEventType.CREATED, saved);
+        return saved;
     }
 
     @Override
     @Transactional
-    public UserEntity updateUser(Long id, String name, String email) {
-        UserEntity user = findById(id);
-
-        if (!user.getEmail().equals(email) && repository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email já cadastrado");
-        }
+    public UserEntity updateUser(Long id, String name, String email, Long expectedVersion) {
+        UserEntity user = loadUser(id);
+        checkVersion(user, expectedVersion);
 
         user.setName(name);
         user.setEmail(email);
 
-        return repository.save(user);
+        UserEntity saved = saveEnforcingUniqueEmail(user, expectedVersion);
+        eventService.publish(UserEventType.UPDATED, saved);
+        userCache.putAfterCommit(saved);
+        return saved;
     }
 
     @Override
     @Transactional
-    public void deleteUser(Long id) {
-        UserEntity user = findById(id);
+    public void deleteUser(Long id, Long expectedVersion) {
+        UserEntity user = loadUser(id);
+        checkVersion(user, expectedVersion);
 
-        long taskCount = taskClient.countTasksByUserId(id);
+        long taskCount = taskService.countTasksByUserId(id);
         if (taskCount > 0) {
             throw new IllegalStateException("Usuário possui tarefas associadas e não pode ser deletado.");
         }
 
         repository.delete(user);
+        flush(expectedVersion);
+        eventService.publish(UserEventType.DELETED, user);
+        userCache.removeAfterCommit(user);
+    }
+
+    private UserEntity loadUser(Long id) {
+        return repository.findById(id).orElseThrow(UserServiceImpl::userNotFound);
+    }
+
+    private static EntityNotFoundException userNotFound() {
+        return new EntityNotFoundException("Usuário não encontrado");
+    }
+
+    /**
+     * Grava e já envia o INSERT/UPDATE ao banco, para que a restrição única de email seja verificada
+     * nesse mesmo comando, sem consulta prévia e sem janela para gravações concorrentes.
+     */
+    private UserEntity saveEnforcingUniqueEmail(UserEntity user, Long expectedVersion) {
+        try {
+            return repository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesEmailConstraint(e)) {
+                throw new IllegalArgumentException("Email já cadastrado");
+            }
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw versionConflict(e, expectedVersion);
+        }
+    }
+
+    private void flush(Long expectedVersion) {
+        try {
+            repository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw versionConflict(e, expectedVersion);
+        }
+    }
+
+    /**
+     * Alteração concorrente acusada pelo {@code @Version} ao gravar: falha de pré-condição se o
+     * cliente informou a versão esperada; sem ela, o próprio conflito.
+     */
+    private static RuntimeException versionConflict(OptimisticLockingFailureException e, Long expectedVersion) {
+        return expectedVersion != null ? new PreconditionFailedException(VERSION_CHANGED, e) : e;
+    }
+
+    private static boolean violatesEmailConstraint(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && EMAIL_CONSTRAINT.matcher(violation.getConstraintName()).matches();
+    }
+
+    /**
+     * Rejeita a operação se o cliente informou uma versão diferente da atual. Alterações
+     * concorrentes feitas depois desta leitura são detectadas pelo {@code @Version} no UPDATE.
+     */
+    private static void checkVersion(UserEntity user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new PreconditionFailedException(VERSION_CHANGED);
+        }
     }
 
 }
@@ -0,0 +1,37 @@
+package com.andersonsilva.userservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    /**
+     * O cache {@value #USERS_CACHE} é lido e atualizado por {@code UserCache}, que aplica as
+     * gravações após o commit e recusa versões mais antigas que a já guardada.
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${users.cache.max-size:10000}") long maxSize,
+            @Value("${users.cache.ttl:10m}") Duration ttl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(USERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.andersonsilva.userservice.domain;
 
+import com.andersonsilva.shared.persistence.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -7,7 +8,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users", uniqueConstraints = {@UniqueConstraint(columnNames = "email")})
+@Table(name = "users", indexes = {
+        // No PostgreSQL o índice é sobre lower(email) (V6); aqui só nomeia o equivalente nos testes
+        @Index(name = UserEntity.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+        @Index(name = "idx_users_name_id", columnList = "name, id"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,18 +21,28 @@ import java.time.LocalDateTime;
 @Builder
 public class UserEntity {
 
+    /**
+     * Único índice que garante a unicidade do email. Restrições únicas de versões anteriores do
+     * esquema são removidas pela migração V7.
+     */
+    public static final String EMAIL_UNIQUE_INDEX = "ux_users_email_lower";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "users_seq")
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
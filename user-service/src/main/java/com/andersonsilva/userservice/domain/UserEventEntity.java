@@ -0,0 +1,57 @@
+package com.andersonsilva.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox de eventos do ciclo de vida dos usuários. Cada evento é gravado na mesma transação
+ * da alteração do usuário e carrega o estado completo, para que consumidores possam reaplicá-lo.
+ * Consumidores acompanham o feed pela {@code position}, contínua e atribuída depois do commit,
+ * na leitura do feed; o {@code id} não segue a ordem de commit.
+ */
+@Entity
+@Table(name = "user_events", indexes = {
+        @Index(name = "idx_user_events_occurred_at", columnList = "occurred_at"),
+        @Index(name = "ux_user_events_position", columnList = "position", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long position;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserEventType type;
+
+    private String name;
+
+    private String email;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    public static UserEventEntity of(UserEventType type, UserEntity user) {
+        return UserEventEntity.builder()
+                .userId(user.getId())
+                .type(type)
+                .name(user.getName())
+                .email(user.getEmail())
+                .build();
+    }
+
+}
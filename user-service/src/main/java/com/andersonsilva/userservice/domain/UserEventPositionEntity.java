@@ -0,0 +1,25 @@
+package com.andersonsilva.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Última posição atribuída a um evento do feed, uma linha por stream. Bloqueada por quem numera
+ * os eventos pendentes, para que dois leitores nunca atribuam a mesma posição.
+ */
+@Entity
+@Table(name = "user_event_positions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserEventPositionEntity {
+
+    @Id
+    private String stream;
+
+    @Column(nullable = false)
+    private Long lastPosition;
+
+}
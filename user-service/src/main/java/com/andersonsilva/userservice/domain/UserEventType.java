@@ -0,0 +1,7 @@
+package com.andersonsilva.userservice.domain;
+
+public enum UserEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,15 @@
+package com.andersonsilva.userservice.domain;
+
+/**
+ * Ordenações disponíveis na listagem paginada de usuários. O ID desempata registros com a mesma
+ * chave, para que o cursor identifique uma posição única.
+ */
+public enum UserSort {
+
+    /** Nome em ordem alfabética, depois ID crescente. */
+    NAME,
+
+    /** Mais recentes primeiro: data de criação decrescente, depois ID decrescente. */
+    CREATED_AT
+
+}
@@ -0,0 +1,9 @@
+-- Esquema inicial, equivalente ao que o Hibernate criava com ddl-auto: update.
+-- Em bancos já existentes a tabela é mantida como está.
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at TIMESTAMP(6) NOT NULL,
+    email      VARCHAR(255) NOT NULL UNIQUE,
+    name       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,12 @@
+-- Outbox de eventos dos usuários, equivalente ao que o Hibernate criava com ddl-auto: update.
+CREATE TABLE IF NOT EXISTS user_events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email       VARCHAR(255),
+    name        VARCHAR(255),
+    occurred_at TIMESTAMP(6) NOT NULL,
+    type        VARCHAR(255) NOT NULL CHECK (type IN ('CREATED', 'UPDATED', 'DELETED')),
+    user_id     BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_events_occurred_at ON user_events (occurred_at);
@@ -0,0 +1,8 @@
+-- IDs dos usuários passam a vir de uma sequência, reservados em blocos pelo Hibernate
+-- (otimizador pooled), o que permite agrupar os INSERTs em lotes JDBC.
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+
+-- O primeiro bloco começa logo após o maior ID já existente.
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
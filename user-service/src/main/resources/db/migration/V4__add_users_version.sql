@@ -0,0 +1,2 @@
+-- Versão usada pelo controle de concorrência otimista (@Version) e como ETag do usuário.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
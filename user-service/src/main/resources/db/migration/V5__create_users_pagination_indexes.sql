@@ -0,0 +1,6 @@
+-- Índices da listagem paginada de usuários (GET /api/users), um por ordenação.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_id
+    ON users (name, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id
+    ON users (created_at, id);
@@ -0,0 +1,5 @@
+-- Unicidade de email sem diferenciar maiúsculas de minúsculas, verificada pelo próprio banco no
+-- INSERT/UPDATE. Falha se já existirem emails que diferem apenas na caixa, que precisam ser
+-- resolvidos antes; nesse caso, remova o índice inválido deixado pelo CONCURRENTLY e repita.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_users_email_lower
+    ON users (lower(email));
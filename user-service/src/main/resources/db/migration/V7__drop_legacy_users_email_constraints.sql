@@ -0,0 +1,30 @@
+-- Remove as restrições únicas sobre users(email) anteriores a ux_users_email_lower (V6): a criada
+-- pelo ddl-auto: update, com nome gerado pelo Hibernate (UK...), ou users_email_key, criada pela
+-- V1 em bancos novos. Assim um email repetido sempre viola ux_users_email_lower, o nome que o
+-- UserServiceImpl reconhece.
+DO $$
+DECLARE
+    legacy RECORD;
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM pg_index i
+                   JOIN pg_class c ON c.oid = i.indexrelid
+                   WHERE c.relname = 'ux_users_email_lower'
+                     AND c.relnamespace = current_schema()::regnamespace
+                     AND i.indisvalid) THEN
+        RAISE EXCEPTION 'ux_users_email_lower ausente ou inválido; refaça a V6 antes de remover as restrições antigas';
+    END IF;
+
+    FOR legacy IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND cardinality(con.conkey) = 1
+          AND att.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', legacy.conname);
+    END LOOP;
+END
+$$;
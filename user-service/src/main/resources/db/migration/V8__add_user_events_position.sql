@@ -0,0 +1,21 @@
+-- Posição dos eventos no feed (GET /api/users/events). O id, gerado no INSERT, não segue a ordem
+-- de commit e um consumidor podia avançar sobre um evento ainda não confirmado. A posição vem de
+-- um contador de linha única, incrementado na transação do evento e bloqueado até o commit.
+CREATE TABLE IF NOT EXISTS user_event_positions (
+    stream        VARCHAR(255) NOT NULL,
+    last_position BIGINT       NOT NULL,
+    PRIMARY KEY (stream)
+);
+
+-- Eventos existentes mantêm a posição igual ao id, para que os offsets já gravados pelos
+-- consumidores continuem válidos. Instâncias anteriores a esta versão não preenchem a coluna e
+-- passam a falhar ao gravar usuários: atualize todas juntas.
+ALTER TABLE user_events ADD COLUMN IF NOT EXISTS position BIGINT;
+UPDATE user_events SET position = id WHERE position IS NULL;
+ALTER TABLE user_events ALTER COLUMN position SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_events_position ON user_events (position);
+
+INSERT INTO user_event_positions (stream, last_position)
+SELECT 'user-events', COALESCE(MAX(position), 0)
+FROM user_events
+ON CONFLICT DO NOTHING;
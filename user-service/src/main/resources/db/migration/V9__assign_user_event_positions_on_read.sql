@@ -0,0 +1,3 @@
+-- A posição passa a ser atribuída na leitura do feed, depois do commit, e não mais na transação
+-- que grava o usuário: eventos recém-gravados ficam sem posição até a próxima leitura.
+ALTER TABLE user_events ALTER COLUMN position DROP NOT NULL;
@@ -0,0 +1,170 @@
+package com.andersonsilva.userservice;
+
+import com.andersonsilva.shared.test.PostgresTestDatabase;
+import com.andersonsilva.userservice.application.service.IUserEventService;
+import com.andersonsilva.userservice.application.service.IUserService;
+import com.andersonsilva.userservice.application.service.impl.UserEventServiceImpl;
+import com.andersonsilva.userservice.domain.UserEntity;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.postgresql.util.PSQLException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Aplica as migrações do Flyway no PostgreSQL sobre um banco no formato deixado pelo
+ * {@code ddl-auto: update} anterior a elas, e sobe a aplicação validando o esquema resultante.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIf("com.andersonsilva.shared.test.PostgresTestDatabase#isAvailable")
+class PostgresMigrationIntegrationTest {
+
+    /**
+     * DDL gerada pelo Hibernate com {@code ddl-auto: update} para a entidade original, incluindo o
+     * nome gerado para {@code @UniqueConstraint(columnNames = "email")}.
+     */
+    private static final String[] LEGACY_SCHEMA = {
+            """
+            create table users (
+                id bigint generated by default as identity,
+                created_at timestamp(6) not null,
+                email varchar(255) not null,
+                name varchar(255) not null,
+                primary key (id)
+            )
+            """,
+            "alter table if exists users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email)",
+            """
+            insert into users (created_at, email, name) values
+                (now(), 'ana@example.com', 'Ana'),
+                (now(), 'bruno@example.com', 'Bruno')
+            """
+    };
+
+    private static final String EMAIL_UNIQUE_CONSTRAINTS = """
+            SELECT con.conname
+            FROM pg_constraint con
+            JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+            WHERE con.conrelid = 'users'::regclass AND con.contype = 'u' AND att.attname = 'email'
+            """;
+
+    @Autowired
+    private IUserService service;
+
+    @Autowired
+    private IUserEventService eventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase database = PostgresTestDatabase.create();
+        database.execute(LEGACY_SCHEMA);
+        database.register(registry);
+    }
+
+    @Test
+    @DisplayName("Aplica todas as migrações sobre o esquema legado")
+    void appliesAllMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT COALESCE(version, description) FROM flyway_schema_history WHERE success AND version <> '0' "
+                        + "OR version IS NULL ORDER BY installed_rank", String.class);
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "sequence increments"), versions);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Remove a restrição única legada e mantém apenas o índice de email sem caixa")
+    void dropsLegacyEmailConstraint() {
+        assertEquals(List.of(), jdbcTemplate.queryForList(EMAIL_UNIQUE_CONSTRAINTS, String.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_indexes WHERE indexname = ?", Integer.class, UserEntity.EMAIL_UNIQUE_INDEX));
+    }
+
+    @Test
+    @DisplayName("Email repetido em banco migrado é rejeitado como email já cadastrado")
+    void rejectsDuplicateEmailOnMigratedDatabase() {
+        var exact = assertThrows(IllegalArgumentException.class,
+                () -> service.createUser("Outra Ana", "ana@example.com"));
+        var otherCase = assertThrows(IllegalArgumentException.class,
+                () -> service.createUser("Outro Bruno", "Bruno@Example.com"));
+
+        assertEquals("Email já cadastrado", exact.getMessage());
+        assertEquals("Email já cadastrado", otherCase.getMessage());
+    }
+
+    @Test
+    @DisplayName("Novos IDs vêm da sequência depois dos já existentes")
+    void newIdsFollowExistingRows() {
+        UserEntity created = service.createUser("Carla", "carla@example.com");
+
+        assertTrue(created.getId() > 2);
+        assertEquals(50L, jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'users_seq'", Long.class));
+    }
+
+    @Test
+    @DisplayName("Eventos de usuários recebem posições consecutivas do contador da V8 na leitura do feed")
+    void eventsGetConsecutivePositions() {
+        service.createUser("Davi", "davi@example.com");
+        service.createUser("Eva", "eva@example.com");
+        eventService.findEventsAfter(0L, UserEventServiceImpl.MAX_EVENTS_PER_PAGE);
+
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT position FROM user_events ORDER BY position", Long.class);
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT last_position FROM user_event_positions WHERE stream = 'user-events'", Long.class);
+
+        assertEquals(last, positions.get(positions.size() - 1));
+        for (int i = 1; i < positions.size(); i++) {
+            assertEquals(positions.get(i - 1) + 1, positions.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Em banco novo a restrição única da V1 também dá lugar ao índice de email")
+    void freshDatabaseKeepsOnlyEmailIndex() throws Exception {
+        PostgresTestDatabase database = PostgresTestDatabase.create();
+        database.flyway(50).migrate();
+
+        try (Connection connection = database.connect(); Statement statement = connection.createStatement()) {
+            assertTrue(!statement.executeQuery(EMAIL_UNIQUE_CONSTRAINTS).next());
+
+            statement.execute("INSERT INTO users (id, created_at, email, name) VALUES (1, now(), 'dani@example.com', 'Dani')");
+            var duplicate = assertThrows(PSQLException.class, () -> statement.execute(
+                    "INSERT INTO users (id, created_at, email, name) VALUES (2, now(), 'dani@example.com', 'Dani')"));
+            assertEquals(UserEntity.EMAIL_UNIQUE_INDEX, duplicate.getServerErrorMessage().getConstraint());
+        }
+    }
+
+    @Test
+    @DisplayName("Recusa reduzir o incremento de users_seq depois que a sequência já entregou IDs")
+    void refusesToLowerIncrementOfUsedSequence() {
+        PostgresTestDatabase database = PostgresTestDatabase.create();
+        database.flyway(50).migrate();
+        database.execute("SELECT nextval('users_seq')");
+
+        var refused = assertThrows(FlywayException.class, () -> database.flyway(20).migrate());
+
+        assertTrue(refused.getMessage().contains("ALTER SEQUENCE users_seq INCREMENT BY 20"));
+    }
+
+}
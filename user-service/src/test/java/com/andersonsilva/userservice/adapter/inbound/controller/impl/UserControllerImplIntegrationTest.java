@@ -1,7 +1,12 @@
 package com.andersonsilva.userservice.adapter.inbound.controller.impl;
 
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventPositionRepository;
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventRepository;
 import com.andersonsilva.userservice.adapter.outbound.persistence.UserRepository;
+import com.andersonsilva.userservice.application.service.IUserEventService;
+import com.andersonsilva.userservice.application.service.impl.UserEventServiceImpl;
 import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventPositionEntity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +15,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,12 +40,23 @@ class UserControllerImplIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserEventRepository userEventRepository;
+
+    @Autowired
+    private UserEventPositionRepository userEventPositionRepository;
+
+    @Autowired
+    private IUserEventService userEventService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
+        userEventRepository.deleteAll();
+        userEventPositionRepository.save(new UserEventPositionEntity(UserEventServiceImpl.USER_EVENTS_STREAM, 0L));
     }
 
     @Nested
@@ -127,6 +148,65 @@ class UserControllerImplIntegrationTest {
                     .andExpect(jsonPath("$[1].email").value("maria@example.com"));
         }
 
+        @Test
+        @DisplayName("Deve paginar por nome com cursor e informar o total apenas quando solicitado")
+        void shouldPaginateByNameWithCursor() throws Exception {
+            userRepository.saveAll(List.of(
+                    UserEntity.builder().name("Carla").email("carla@example.com").build(),
+                    UserEntity.builder().name("Anderson").email("anderson@example.com").build(),
+                    UserEntity.builder().name("Bruna").email("bruna@example.com").build()
+            ));
+
+            MvcResult first = mockMvc.perform(get("/api/users").param("limit", "2").param("includeTotal", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].name").value("Anderson"))
+                    .andExpect(jsonPath("$[1].name").value("Bruna"))
+                    .andExpect(header().string(UserControllerImpl.TOTAL_COUNT_HEADER, "3"))
+                    .andExpect(header().exists(HttpHeaders.LINK))
+                    .andReturn();
+
+            mockMvc.perform(get("/api/users")
+                            .param("limit", "2")
+                            .param("cursor", first.getResponse().getHeader(UserControllerImpl.NEXT_CURSOR_HEADER)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].name").value("Carla"))
+                    .andExpect(header().doesNotExist(UserControllerImpl.NEXT_CURSOR_HEADER))
+                    .andExpect(header().doesNotExist(UserControllerImpl.TOTAL_COUNT_HEADER));
+        }
+
+        @Test
+        @DisplayName("Deve paginar do usuário mais recente para o mais antigo")
+        void shouldPaginateByCreatedAtDescending() throws Exception {
+            var older = userRepository.save(UserEntity.builder().name("Antigo").email("antigo@example.com").build());
+            var newer = userRepository.save(UserEntity.builder().name("Novo").email("novo@example.com").build());
+
+            MvcResult first = mockMvc.perform(get("/api/users").param("sort", "CREATED_AT").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(newer.getId()))
+                    .andReturn();
+
+            mockMvc.perform(get("/api/users")
+                            .param("sort", "CREATED_AT")
+                            .param("limit", "1")
+                            .param("cursor", first.getResponse().getHeader(UserControllerImpl.NEXT_CURSOR_HEADER)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(older.getId()));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para cursor, ordenação ou limite inválidos")
+        void shouldRejectInvalidPaginationParameters() throws Exception {
+            mockMvc.perform(get("/api/users").param("cursor", "nao-e-um-cursor"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.messages[0]").value("Cursor inválido"));
+            mockMvc.perform(get("/api/users").param("sort", "EMAIL"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/users").param("limit", "500"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Deve retornar lista vazia quando não há usuários")
         void shouldReturnEmptyListWhenNoUsers() throws Exception {
@@ -155,12 +235,60 @@ class UserControllerImplIntegrationTest {
                     .andExpect(jsonPath("$.email").value("anderson@example.com"));
         }
 
+        @Test
+        @DisplayName("Deve responder 304 quando If-None-Match corresponde à ETag do usuário")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            var savedUser = userRepository.save(UserEntity.builder()
+                    .name("Anderson Silva")
+                    .email("anderson@example.com")
+                    .build());
+
+            mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+            mockMvc.perform(get("/api/users/{id}", savedUser.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
         @Test
         @DisplayName("Deve retornar 404 ao buscar usuário inexistente")
         void shouldReturn404WhenUserNotFound() throws Exception {
             mockMvc.perform(get("/api/users/999"))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Deve buscar vários usuários em uma única chamada, omitindo IDs inexistentes")
+        void shouldFindUsersByIds() throws Exception {
+            var first = userRepository.save(UserEntity.builder()
+                    .name("Anderson Silva")
+                    .email("anderson@example.com")
+                    .build());
+            var second = userRepository.save(UserEntity.builder()
+                    .name("Maria Souza")
+                    .email("maria@example.com")
+                    .build());
+
+            mockMvc.perform(post("/api/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(first.getId(), second.getId(), 999L))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[*].email").value(
+                            containsInAnyOrder("anderson@example.com", "maria@example.com")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 ao buscar vários usuários com um ID nulo")
+        void shouldReturn400WhenBatchContainsNullId() throws Exception {
+            mockMvc.perform(post("/api/users/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[1, null]"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -190,6 +318,38 @@ class UserControllerImplIntegrationTest {
                     .andExpect(jsonPath("$.email").value("anderson.novo@example.com"));
         }
 
+        @Test
+        @DisplayName("Deve aplicar If-Match na atualização, retornando 412 para ETag desatualizada")
+        void shouldHonorIfMatchOnUpdate() throws Exception {
+            var savedUser = userRepository.save(UserEntity.builder()
+                    .name("Anderson Silva")
+                    .email("anderson@example.com")
+                    .build());
+            var request = """
+                    {
+                        "name": "Anderson Silva Atualizado",
+                        "email": "anderson@example.com"
+                    }
+                    """;
+
+            mockMvc.perform(put("/api/users/{id}", savedUser.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+            mockMvc.perform(put("/api/users/{id}", savedUser.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request.replace("Atualizado", "Outra vez")))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.messages[0]").value("O usuário foi alterado por outra requisição"));
+
+            mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
+                    .andExpect(jsonPath("$.name").value("Anderson Silva Atualizado"));
+        }
+
         @Test
         @DisplayName("Deve retornar 404 ao tentar atualizar usuário inexistente")
         void shouldReturn404WhenUpdatingNonExistentUser() throws Exception {
@@ -228,4 +388,70 @@ class UserControllerImplIntegrationTest {
                     .andExpect(status().isBadRequest());
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes do feed de eventos de usuário")
+    class UserEventsTests {
+        @Test
+        @DisplayName("Deve publicar eventos de criação e atualização em ordem")
+        void shouldPublishLifecycleEventsInOrder() throws Exception {
+            var created = mockMvc.perform(post("/api/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    { "name": "Anderson", "email": "anderson@example.com" }
+                                    """))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+            mockMvc.perform(put("/api/users/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    { "name": "Anderson Silva", "email": "anderson@example.com" }
+                                    """))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/users/events").param("after", "0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].type").value("CREATED"))
+                    .andExpect(jsonPath("$[0].position").value(1))
+                    .andExpect(jsonPath("$[0].userId").value(id))
+                    .andExpect(jsonPath("$[1].type").value("UPDATED"))
+                    .andExpect(jsonPath("$[1].position").value(2))
+                    .andExpect(jsonPath("$[1].name").value("Anderson Silva"));
+        }
+
+        @Test
+        @DisplayName("Deve responder 410 com a posição mais antiga quando eventos após o offset já foram removidos")
+        void shouldReturnGoneWhenEventsAfterOffsetWerePurged() throws Exception {
+            for (String name : List.of("Ana", "Bruno", "Carla")) {
+                mockMvc.perform(post("/api/users")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        { "name": "%s", "email": "%s@example.com" }
+                                        """.formatted(name, name.toLowerCase())))
+                        .andExpect(status().isCreated());
+            }
+
+            // A retenção remove tudo que passou do prazo, menos o evento mais recente
+            assertEquals(2, userEventService.purgeEventsBefore(LocalDateTime.now().plusMinutes(1)));
+
+            mockMvc.perform(get("/api/users/events").param("after", "0"))
+                    .andExpect(status().isGone())
+                    .andExpect(header().string(UserControllerImpl.OLDEST_EVENT_POSITION_HEADER, "3"));
+            mockMvc.perform(get("/api/users/events").param("after", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].position").value(3))
+                    .andExpect(jsonPath("$[0].name").value("Carla"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para limite inválido")
+        void shouldRejectInvalidLimit() throws Exception {
+            mockMvc.perform(get("/api/users/events").param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
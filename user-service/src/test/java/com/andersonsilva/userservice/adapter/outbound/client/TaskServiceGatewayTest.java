@@ -0,0 +1,64 @@
+package com.andersonsilva.userservice.adapter.outbound.client;
+
+import com.andersonsilva.userservice.application.exception.TaskServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceGatewayTest {
+
+    @Mock
+    private TaskClient taskClient;
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+
+    private TaskServiceGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new TaskServiceGateway(taskClient, circuitBreakers, BulkheadRegistry.ofDefaults());
+    }
+
+    @Test
+    @DisplayName("Repassa a contagem retornada pelo task-service")
+    void countTasksByUserIdDelegatesToClient() {
+        when(taskClient.countTasksByUserId(1L)).thenReturn(3L);
+
+        assertEquals(3L, gateway.countTasksByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("Erros 5xx do task-service viram TaskServiceUnavailableException")
+    void countTasksReportsUnavailabilityOnServerErrors() {
+        when(taskClient.countTasksByUserId(1L)).thenThrow(mock(FeignException.ServiceUnavailable.class));
+
+        var ex = assertThrows(TaskServiceUnavailableException.class, () -> gateway.countTasksByUserId(1L));
+        assertInstanceOf(FeignException.ServiceUnavailable.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Com o circuito aberto falha imediatamente, sem chamar o task-service")
+    void countTasksFailsFastWhenCircuitIsOpen() {
+        circuitBreakers.circuitBreaker(TaskServiceGateway.TASK_SERVICE).transitionToOpenState();
+
+        var ex = assertThrows(TaskServiceUnavailableException.class, () -> gateway.countTasksByUserId(1L));
+        assertInstanceOf(CallNotPermittedException.class, ex.getCause());
+        verifyNoInteractions(taskClient);
+    }
+
+}
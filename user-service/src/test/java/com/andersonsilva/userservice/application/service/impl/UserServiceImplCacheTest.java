@@ -0,0 +1,137 @@
+package com.andersonsilva.userservice.application.service.impl;
+
+import com.andersonsilva.userservice.adapter.outbound.cache.UserCache;
+import com.andersonsilva.userservice.adapter.outbound.client.TaskServiceGateway;
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserRepository;
+import com.andersonsilva.userservice.application.service.IUserService;
+import com.andersonsilva.userservice.config.CacheConfig;
+import com.andersonsilva.userservice.domain.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceImplCacheTest {
+
+    @Autowired
+    private IUserService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private TaskServiceGateway taskService;
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.USERS_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("findById é servido do cache a partir da segunda leitura e registra acertos e falhas")
+    void findByIdIsServedFromCache() {
+        Long id = service.createUser("Cache", "cache@example.com").getId();
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+
+        var first = service.findById(id);
+        var second = service.findById(id);
+
+        assertEquals(first.getEmail(), second.getEmail());
+        assertEquals(first.getVersion(), second.getVersion());
+        assertEquals(misses + 1, cacheGets("miss"));
+        assertEquals(hits + 1, cacheGets("hit"));
+    }
+
+    @Test
+    @DisplayName("O cache guarda uma cópia: alterar a entidade retornada não afeta as próximas leituras")
+    void cachedUserIsNotShared() {
+        Long id = service.createUser("Original", "original@example.com").getId();
+        service.findById(id);
+
+        var cached = service.findById(id);
+        cached.setName("Alterado fora do serviço");
+
+        assertNotSame(cached, service.findById(id));
+        assertEquals("Original", service.findById(id).getName());
+        assertInstanceOf(UserCache.CachedUser.class, cacheManager.getCache(CacheConfig.USERS_CACHE).get(id).get());
+    }
+
+    @Test
+    @DisplayName("updateUser coloca a versão nova no cache após o commit")
+    void updateUserCachesNewVersion() {
+        Long id = service.createUser("Antes", "antes@example.com").getId();
+        service.findById(id);
+
+        service.updateUser(id, "Depois", "depois@example.com", null);
+
+        var cached = cacheManager.getCache(CacheConfig.USERS_CACHE).get(id, UserCache.CachedUser.class);
+        assertNotNull(cached);
+        assertEquals("Depois", cached.name());
+        assertEquals("Depois", service.findById(id).getName());
+    }
+
+    @Test
+    @DisplayName("Uma leitura iniciada antes de uma alteração não recoloca a versão antiga no cache")
+    void staleReadDoesNotOverwriteNewerVersion() {
+        Long id = service.createUser("Antes", "antes2@example.com").getId();
+        UserEntity staleRead = userRepository.findById(id).orElseThrow();
+
+        service.updateUser(id, "Depois", "depois2@example.com", null);
+        userCache.putIfNewer(staleRead);
+
+        assertEquals("Depois", service.findById(id).getName());
+    }
+
+    @Test
+    @DisplayName("Uma leitura iniciada antes da exclusão não recoloca o usuário no cache")
+    void staleReadDoesNotResurrectDeletedUser() {
+        Long id = service.createUser("Excluir", "excluir2@example.com").getId();
+        UserEntity staleRead = userRepository.findById(id).orElseThrow();
+        when(taskService.countTasksByUserId(id)).thenReturn(0L);
+
+        service.deleteUser(id, null);
+        userCache.putIfNewer(staleRead);
+
+        assertThrows(EntityNotFoundException.class, () -> service.findById(id));
+    }
+
+    @Test
+    @DisplayName("deleteUser remove o usuário do cache")
+    void deleteUserEvictsCachedUser() {
+        Long id = service.createUser("Excluir", "excluir@example.com").getId();
+        service.findById(id);
+        when(taskService.countTasksByUserId(id)).thenReturn(0L);
+
+        service.deleteUser(id, null);
+
+        assertThrows(EntityNotFoundException.class, () -> service.findById(id));
+    }
+
+}
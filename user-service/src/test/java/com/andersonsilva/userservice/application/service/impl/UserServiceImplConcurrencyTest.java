@@ -0,0 +1,126 @@
+package com.andersonsilva.userservice.application.service.impl;
+
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventPositionRepository;
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserEventRepository;
+import com.andersonsilva.userservice.adapter.outbound.persistence.UserRepository;
+import com.andersonsilva.userservice.application.service.IUserEventService;
+import com.andersonsilva.userservice.application.service.IUserService;
+import com.andersonsilva.userservice.domain.UserEventEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceImplConcurrencyTest {
+
+    private static final int WRITERS = 64;
+
+    @Autowired
+    private IUserService service;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserEventRepository userEventRepository;
+
+    @Autowired
+    private UserEventPositionRepository positionRepository;
+
+    @Autowired
+    private IUserEventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Criações simultâneas com o mesmo email gravam um único usuário e rejeitam as demais")
+    void concurrentCreatesWithSameEmailKeepOnlyOneUser() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                String name = "Concorrente " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.createUser(name, "concorrente@example.com");
+                        return "criado";
+                    } catch (IllegalArgumentException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<String> outcomes = new ArrayList<>();
+            for (Future<String> result : results) {
+                outcomes.add(result.get());
+            }
+
+            assertEquals(1, outcomes.stream().filter("criado"::equals).count());
+            assertEquals(WRITERS - 1, outcomes.stream().filter("Email já cadastrado"::equals).count());
+        }
+
+        assertEquals(1, userRepository.count());
+        assertEquals(1, userEventRepository.count());
+    }
+
+    @Test
+    @DisplayName("Leitor do feed de eventos nunca encontra lacunas enquanto usuários são gravados em paralelo")
+    void eventFeedHasNoGapsUnderConcurrentWrites() throws Exception {
+        int usersPerWriter = 10;
+        int total = WRITERS * usersPerWriter;
+        long after = positionRepository.findLastPosition(UserEventServiceImpl.USER_EVENTS_STREAM);
+        long last = after + total;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                int writer = i;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < usersPerWriter; j++) {
+                        service.createUser("Usuário " + writer + "-" + j, "u" + writer + "-" + j + "@example.com");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // Consome o feed como o task-service: cada página deve continuar exatamente do offset
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (after < last && System.nanoTime() < deadline) {
+                for (UserEventEntity event : eventService.findEventsAfter(after, UserEventServiceImpl.MAX_EVENTS_PER_PAGE)) {
+                    assertEquals(after + 1, event.getPosition());
+                    after = event.getPosition();
+                }
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        assertEquals(last, after);
+    }
+
+}
@@ -1,20 +1,36 @@
 package com.andersonsilva.userservice.application.service.impl;
 
-import com.andersonsilva.userservice.adapter.outbound.client.TaskClient;
+import com.andersonsilva.shared.exception.PreconditionFailedException;
+import com.andersonsilva.userservice.adapter.outbound.cache.UserCache;
+import com.andersonsilva.userservice.adapter.outbound.client.TaskServiceGateway;
 import com.andersonsilva.userservice.adapter.outbound.persistence.UserRepository;
+import com.andersonsilva.userservice.application.dto.UserCursor;
+import com.andersonsilva.userservice.application.exception.TaskServiceUnavailableException;
+import com.andersonsilva.userservice.application.service.IUserEventService;
 import com.andersonsilva.userservice.domain.UserEntity;
+import com.andersonsilva.userservice.domain.UserEventType;
+import com.andersonsilva.userservice.domain.UserSort;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,8 +42,14 @@ class UserServiceImplTest {
     private UserRepository repository;
     
     @Mock
-    private TaskClient taskClient;
-    
+    private TaskServiceGateway taskService;
+
+    @Mock
+    private IUserEventService eventService;
+
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserServiceImpl service;
 
@@ -40,17 +62,47 @@ class UserServiceImplTest {
                 .name("Anderson")
                 .email("anderson@example.com")
                 .createdAt(LocalDateTime.now())
+                .version(0L)
                 .build();
     }
 
     @Test
-    @DisplayName("findAll retorna todos os usuários")
-    void findAllReturnsAllUsers() {
-        when(repository.findAll()).thenReturn(List.of(userEntity));
-        var users = service.findAll();
-        assertEquals(1, users.size());
-        assertSame(userEntity, users.get(0));
-        verify(repository).findAll();
+    @DisplayName("findPage retorna cursor quando existe próxima página")
+    void findPageReturnsNextCursorWhenThereAreMoreUsers() {
+        var other = UserEntity.builder().id(2L).name("Bruna").email("bruna@example.com").build();
+        when(repository.findAllByOrderByNameAscIdAsc(Limit.of(2))).thenReturn(List.of(userEntity, other));
+
+        var page = service.findPage(UserSort.NAME, null, 1);
+
+        assertEquals(List.of(userEntity), page.content());
+        assertEquals(new UserCursor(UserSort.NAME, "Anderson", 1L), UserCursor.decode(page.nextCursor(), UserSort.NAME));
+        verify(repository, never()).count();
+    }
+
+    @Test
+    @DisplayName("findPage a partir de um cursor usa a consulta keyset da ordenação")
+    void findPageFromCursorUsesKeysetQuery() {
+        var cursor = UserCursor.of(UserSort.CREATED_AT, userEntity);
+        when(repository.findPageBeforeCreatedAt(userEntity.getCreatedAt(), 1L, Limit.of(51))).thenReturn(List.of());
+
+        var page = service.findPage(UserSort.CREATED_AT, cursor.encode(), 50);
+
+        assertTrue(page.content().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("findPage com limite, cursor ou ordenação do cursor inválidos lança IllegalArgumentException")
+    void findPageWithInvalidArgumentsThrowsException() {
+        String nameCursor = UserCursor.of(UserSort.NAME, userEntity).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> service.findPage(UserSort.NAME, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.findPage(UserSort.NAME, null, 201));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.findPage(UserSort.CREATED_AT, nameCursor, 10));
+        assertEquals("Cursor inválido", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> service.findPage(UserSort.NAME, "nao-e-um-cursor", 10));
+        verifyNoInteractions(repository);
     }
 
     @Test
@@ -71,10 +123,33 @@ class UserServiceImplTest {
     }
 
     @Test
-    @DisplayName("createUser com email único salva com sucesso")
+    @DisplayName("findAllById consulta cada ID uma única vez")
+    void findAllByIdDeduplicatesIds() {
+        when(repository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(userEntity));
+        var users = service.findAllById(List.of(1L, 2L, 1L));
+        assertEquals(List.of(userEntity), users);
+    }
+
+    @Test
+    @DisplayName("findAllById acima do limite lança IllegalArgumentException")
+    void findAllByIdAboveLimitThrowsException() {
+        List<Long> ids = LongStream.rangeClosed(1, UserServiceImpl.MAX_BATCH_SIZE + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class, () -> service.findAllById(ids));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("findAllById com ID nulo lança IllegalArgumentException")
+    void findAllByIdWithNullIdThrowsException() {
+        List<Long> ids = Arrays.asList(1L, null);
+        assertThrows(IllegalArgumentException.class, () -> service.findAllById(ids));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("createUser com email único salva com sucesso em um único comando")
     void createUserWithUniqueEmailSucceeds() {
-        when(repository.existsByEmail("bob@example.com")).thenReturn(false);
-        when(repository.save(any())).thenAnswer(inv -> {
+        when(repository.saveAndFlush(any())).thenAnswer(inv -> {
             var u = inv.getArgument(0, UserEntity.class);
             u.setId(2L);
             return u;
@@ -83,60 +158,125 @@ class UserServiceImplTest {
         var created = service.createUser("Bob", "bob@example.com");
         assertEquals(2L, created.getId());
         assertEquals("Bob", created.getName());
-        verify(repository).existsByEmail("bob@example.com");
-        verify(repository).save(any(UserEntity.class));
+        verify(repository).saveAndFlush(any(UserEntity.class));
+        verifyNoMoreInteractions(repository);
+        assertPublished(UserEventType.CREATED, 2L);
     }
 
     @Test
     @DisplayName("createUser com email duplicado lança IllegalArgumentException")
     void createUserWithDuplicateEmailThrowsException() {
-        when(repository.existsByEmail("anderson@example.com")).thenReturn(true);
+        when(repository.saveAndFlush(any())).thenThrow(emailViolation());
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
                 () -> service.createUser("Anderson", "anderson@example.com"));
         assertEquals("Email já cadastrado", ex.getMessage());
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("createUser propaga violações de integridade que não são de email")
+    void createUserPropagatesOtherIntegrityViolations() {
+        var violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "users_name_not_null"));
+        when(repository.saveAndFlush(any())).thenThrow(violation);
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> service.createUser("Anderson", "anderson@example.com")));
     }
 
     @Test
     @DisplayName("updateUser muda dados quando email único")
     void updateUserWithUniqueEmailSucceeds() {
         when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
-        when(repository.existsByEmail("anderson2@example.com")).thenReturn(false);
-        when(repository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(repository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
 
-        var updated = service.updateUser(1L, "Anderson A.", "anderson2@example.com");
+        var updated = service.updateUser(1L, "Anderson A.", "anderson2@example.com", 0L);
         assertEquals("Anderson A.", updated.getName());
         assertEquals("anderson2@example.com", updated.getEmail());
+        assertPublished(UserEventType.UPDATED, 1L);
     }
 
     @Test
     @DisplayName("updateUser para email duplicado lança IllegalArgumentException")
     void updateUserWithDuplicateEmailThrowsException() {
         when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
-        when(repository.existsByEmail("bob@example.com")).thenReturn(true);
+        when(repository.saveAndFlush(any())).thenThrow(emailViolation());
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
-                () -> service.updateUser(1L, "Anderson", "bob@example.com"));
+                () -> service.updateUser(1L, "Anderson", "bob@example.com", null));
         assertEquals("Email já cadastrado", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("updateUser e deleteUser com versão desatualizada lançam PreconditionFailedException")
+    void updateOrDeleteUserWithStaleVersionThrowsException() {
+        when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
+
+        PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                () -> service.updateUser(1L, "Anderson A.", "anderson@example.com", 2L));
+        assertEquals("O usuário foi alterado por outra requisição", ex.getMessage());
+        assertThrows(PreconditionFailedException.class, () -> service.deleteUser(1L, 2L));
+        assertEquals("Anderson", userEntity.getName());
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(taskService, eventService);
+    }
+
+    @Test
+    @DisplayName("Conflito de versão ao gravar é falha de pré-condição apenas quando a versão foi informada")
+    void concurrentChangeOnSaveFailsPreconditionOnlyWithExpectedVersion() {
+        when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
+        when(repository.saveAndFlush(any())).thenThrow(new ObjectOptimisticLockingFailureException(UserEntity.class, 1L));
+
+        PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                () -> service.updateUser(1L, "Anderson A.", "anderson@example.com", 1L));
+        assertEquals("O usuário foi alterado por outra requisição", ex.getMessage());
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> service.updateUser(1L, "Anderson A.", "anderson@example.com", null));
+        verifyNoInteractions(eventService);
+    }
+
     @Test
     @DisplayName("deleteUser sem tarefas associadas exclui com sucesso")
     void deleteUserWithoutTasksSucceeds() {
         when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
-        when(taskClient.countTasksByUserId(1L)).thenReturn(0L);
-        assertDoesNotThrow(() -> service.deleteUser(1L));
+        when(taskService.countTasksByUserId(1L)).thenReturn(0L);
+        assertDoesNotThrow(() -> service.deleteUser(1L, null));
         verify(repository).delete(userEntity);
+        assertPublished(UserEventType.DELETED, 1L);
     }
 
     @Test
     @DisplayName("deleteUser com tarefas associadas lança IllegalStateException")
     void deleteUserWithTasksThrowsException() {
         when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
-        when(taskClient.countTasksByUserId(1L)).thenReturn(5L);
+        when(taskService.countTasksByUserId(1L)).thenReturn(5L);
 
         IllegalStateException ex = assertThrows(IllegalStateException.class,
-                () -> service.deleteUser(1L));
+                () -> service.deleteUser(1L, null));
         assertEquals("Usuário possui tarefas associadas e não pode ser deletado.", ex.getMessage());
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("deleteUser com task-service indisponível não exclui o usuário")
+    void deleteUserWhenTaskServiceUnavailableKeepsUser() {
+        when(repository.findById(1L)).thenReturn(Optional.of(userEntity));
+        when(taskService.countTasksByUserId(1L))
+                .thenThrow(new TaskServiceUnavailableException(new RuntimeException("timeout")));
+
+        assertThrows(TaskServiceUnavailableException.class, () -> service.deleteUser(1L, null));
+        verify(repository, never()).delete(any());
+        verifyNoInteractions(eventService);
+    }
+
+    private static DataIntegrityViolationException emailViolation() {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), "ux_users_email_lower"));
+    }
+
+    private void assertPublished(UserEventType type, Long userId) {
+        ArgumentCaptor<UserEntity> captor = ArgumentCaptor.forClass(UserEntity.class);
+        verify(eventService).publish(eq(type), captor.capture());
+        assertEquals(userId, captor.getValue().getId());
     }
 
 }
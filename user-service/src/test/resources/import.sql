@@ -0,0 +1,2 @@
+-- Executado pelo Hibernate após criar o esquema dos testes (ddl-auto: create-drop); no PostgreSQL a linha vem da V8
+INSERT INTO user_event_positions (stream, last_position) VALUES ('user-events', 0);